@@ -29,6 +29,7 @@
 import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerLevel;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
@@ -46,4 +47,6 @@ public interface ChunkMapAccessor {
     @Invoker("getChunks") Iterable<ChunkHolder> invoker$getChunks();
 
     @Accessor("level") ServerLevel accessor$level();
+
+    @Invoker("getVisibleChunkIfPresent") @Nullable ChunkHolder invoker$getVisibleChunkIfPresent(long pos);
 }
@@ -24,12 +24,15 @@
  */
 package org.spongepowered.common.applaunch.config.common;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @ConfigSerializable
@@ -56,8 +59,26 @@ public final class WorldCategory {
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     public final List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    private transient @Nullable Set<UUID> invalidLookupUuidSet;
+
     public WorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("41c82c87-7afb-4024-ba57-13d2c99cae77")); // Forge FakePlayer
     }
+
+    /**
+     * Gets whether the given uuid is one of the {@link #invalidLookupUuids},
+     * without scanning the list on every call.
+     *
+     * @param uuid The uuid
+     * @return True if lookups should never be performed for the uuid
+     */
+    public boolean isInvalidLookupUuid(final UUID uuid) {
+        Set<UUID> invalid = this.invalidLookupUuidSet;
+        if (invalid == null) {
+            invalid = new HashSet<>(this.invalidLookupUuids);
+            this.invalidLookupUuidSet = invalid;
+        }
+        return invalid.contains(uuid);
+    }
 }
@@ -53,6 +53,7 @@
 import org.spongepowered.common.event.lifecycle.RegisterChannelEventImpl;
 import org.spongepowered.common.event.lifecycle.RegisterDataEventImpl;
 import org.spongepowered.common.event.lifecycle.RegisterFactoryEventImpl;
+import org.spongepowered.common.event.manager.ListenerIndex;
 import org.spongepowered.common.event.manager.SpongeEventManager;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.launch.Lifecycle;
@@ -65,6 +66,7 @@
 import org.spongepowered.common.scheduler.AsyncScheduler;
 import org.spongepowered.common.service.SpongeServiceProvider;
 import org.spongepowered.common.service.server.permission.SpongeContextCalculator;
+import org.spongepowered.common.util.StartupProfiler;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.util.Collection;
@@ -91,44 +93,57 @@ public Injector platformInjector() {
 
     @Override
     public void establishFactories() {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishFactories");
         ((SpongeFactoryProvider) this.game.factoryProvider()).registerDefaultFactories();
+        section.close();
     }
 
     @Override
     public void establishBuilders() {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishBuilders");
         ((SpongeBuilderProvider) this.game.builderProvider()).registerDefaultBuilders();
         ((SpongeDataManager) this.game.dataManager()).registerDefaultBuilders();
+        section.close();
     }
 
     @Override
     public void callRegisterFactoryEvent() {
+        final StartupProfiler.Section section = StartupProfiler.stage("callRegisterFactoryEvent");
         this.game.eventManager().post(new RegisterFactoryEventImpl(Cause.of(EventContext.empty(), this.game), this.game));
+        section.close();
     }
 
     @Override
     public void callRegisterBuilderEvent() {
+        final StartupProfiler.Section section = StartupProfiler.stage("callRegisterBuilderEvent");
         this.game.eventManager().post(new RegisterBuilderEventImpl(Cause.of(EventContext.empty(), this.game), this.game));
+        section.close();
     }
 
     @Override
     public void establishEarlyGlobalRegistries() {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishEarlyGlobalRegistries");
         final SpongeRegistryHolder holder = (SpongeRegistryHolder) this.game;
         holder.setRootMinecraftRegistry((Registry<Registry<?>>) BuiltInRegistries.REGISTRY);
 
         SpongeRegistries.registerEarlyGlobalRegistries(holder);
+        section.close();
     }
 
     @Override
     public void finalizeEarlyGlobalRegistries() {
+        final StartupProfiler.Section section = StartupProfiler.stage("finalizeEarlyGlobalRegistries");
 
         // Vanilla registries we want plugins to be able to modify:
         // TODO marker for this in API?
         this.game.eventManager().post(new AbstractRegisterRegistryValueEvent.BuiltInImpl<>(Cause.of(EventContext.empty(), this.game), this.game,
                 (org.spongepowered.api.registry.Registry<Trigger<?>>) BuiltInRegistries.TRIGGER_TYPES));
+        section.close();
     }
 
     @Override
     public void establishGlobalRegistries(final RegistryAccess.Frozen registryAccess, final RegistryLayer layer) {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishGlobalRegistries");
         final SpongeRegistryHolder holder = (SpongeRegistryHolder) this.game;
         SpongeCommon.logger().info("Layer {}", layer);
         switch (layer)
@@ -154,59 +169,77 @@ public void establishGlobalRegistries(final RegistryAccess.Frozen registryAccess
                 }
             }
         }
+        section.close();
     }
 
     @Override
     public void callRegisterDataEvent() {
+        final StartupProfiler.Section section = StartupProfiler.stage("callRegisterDataEvent");
         this.game.eventManager().post(new RegisterDataEventImpl(Cause.of(EventContext.empty(), Sponge.game()), Sponge.game(),
             (SpongeDataManager) this.game.dataManager()));
+        section.close();
     }
 
     @Override
     public void establishDataProviders() {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishDataProviders");
         ((SpongeDataManager) this.game.dataManager()).registerDefaultProviders();
+        section.close();
     }
 
     @Override
     public void establishDataKeyListeners() {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishDataKeyListeners");
         ((SpongeDataManager) this.game.dataManager()).registerKeyListeners();
+        section.close();
     }
 
     @Override
     public void callRegisterChannelEvent() {
+        final StartupProfiler.Section section = StartupProfiler.stage("callRegisterChannelEvent");
         this.game.eventManager().post(new RegisterChannelEventImpl(Cause.of(EventContext.empty(), this.game), this.game,
                 (SpongeChannelManager) this.game.channelManager()));
+        section.close();
     }
 
     @Override
     public void establishGameServices() {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishGameServices");
         ((SpongeServiceProvider) this.game.serviceProvider()).init();
+        section.close();
     }
 
     @Override
     public void establishServerServices() {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishServerServices");
         ((MinecraftServerBridge) this.game.server()).bridge$initServices(this.game, this.injector);
+        section.close();
     }
 
     @Override
     public void establishServerFeatures() {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishServerFeatures");
         Sponge.server().serviceProvider().contextService().registerContextCalculator(new SpongeContextCalculator());
         // Yes this looks odd but prevents having to do sided lifecycle solely to always point at the Server
         ((SpongeServer) this.game.server()).getUsernameCache().load();
+        section.close();
     }
 
     // Methods are in order of the SpongeCommon lifecycle
 
     @Override
     public void callConstructEvent() {
+        final StartupProfiler.Section section = StartupProfiler.stage("callConstructEvent");
         for (final PluginContainer plugin : this.filterInternalPlugins(this.game.pluginManager().plugins())) {
             ((SpongeEventManager) this.game.eventManager()).postToPlugin(SpongeEventFactory.createConstructPluginEvent(Cause.of(EventContext.empty(),
                     this.game), this.game, plugin), plugin);
         }
+        section.close();
     }
 
     @Override
     public void establishServerRegistries(final Server server) {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishServerRegistries");
         SpongeRegistries.registerServerRegistries(server);
 
         this.game.eventManager().post(new AbstractRegisterRegistryEvent.EngineScopedImpl<>(Cause.of(EventContext.empty(), this.game), this.game,
@@ -218,10 +251,12 @@ public void establishServerRegistries(final Server server) {
                 this.game, server));
 
         ((SpongeRegistryHolder) server).registryHolder().freezeSpongeDynamicRegistries();
+        section.close();
     }
 
     @Override
     public void establishClientRegistries(final Client client) {
+        final StartupProfiler.Section section = StartupProfiler.stage("establishClientRegistries");
         this.game.eventManager().post(new AbstractRegisterRegistryEvent.EngineScopedImpl<>(Cause.of(EventContext.empty(), this.game), this.game,
                 client));
 
@@ -231,29 +266,40 @@ public void establishClientRegistries(final Client client) {
                 this.game, client));
 
         ((SpongeRegistryHolder) client).registryHolder().freezeSpongeDynamicRegistries();
+        section.close();
     }
 
     @Override
     public void callStartingEngineEvent(final Engine engine) {
+        final StartupProfiler.Section section = StartupProfiler.stage("callStartingEngineEvent");
         this.game.eventManager().post(SpongeEventFactory.createStartingEngineEvent(PhaseTracker.getCauseStackManager().currentCause(),
                 engine, this.game, (TypeToken<Engine>) TypeToken.get(engine.getClass())));
+        section.close();
     }
 
     @Override
     public void callStartedEngineEvent(final Engine engine) {
+        final StartupProfiler.Section section = StartupProfiler.stage("callStartedEngineEvent");
         this.game.eventManager().post(SpongeEventFactory.createStartedEngineEvent(PhaseTracker.getCauseStackManager().currentCause(),
                 engine, this.game, (TypeToken<Engine>) TypeToken.get(engine.getClass())));
+        section.close();
     }
 
     @Override
     public void callLoadedGameEvent() {
+        final StartupProfiler.Section section = StartupProfiler.stage("callLoadedGameEvent");
         this.game.eventManager().post(SpongeEventFactory.createLoadedGameEvent(PhaseTracker.getCauseStackManager().currentCause(), this.game));
+        section.close();
+        StartupProfiler.complete();
+        ListenerIndex.save();
     }
 
     @Override
     public void callStoppingEngineEvent(final Engine engine) {
         this.game.eventManager().post(SpongeEventFactory.createStoppingEngineEvent(PhaseTracker.getCauseStackManager().currentCause(),
                 engine, this.game, (TypeToken<Engine>) TypeToken.get(engine.getClass())));
+        // Listeners registered while the engine was running
+        ListenerIndex.save();
         if (engine instanceof SpongeServer) {
             final @Nullable SpongeGameProfileManager profileManager = ((SpongeServer) engine).gameProfileManagerIfPresent();
             if (profileManager != null) {
@@ -72,4 +72,6 @@ public interface ServerScoreboardBridge {
     void bridge$removeScores(Component name);
 
     void bridge$sendToPlayers(Packet<?> packet);
+
+    void bridge$flushScoreUpdates();
 }
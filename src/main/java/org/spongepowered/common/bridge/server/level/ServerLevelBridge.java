@@ -29,6 +29,7 @@
 import net.minecraft.world.level.storage.LevelStorageSource;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.world.explosion.Explosion;
+import org.spongepowered.common.event.MoveEntityEventFilter;
 
 public interface ServerLevelBridge {
 
@@ -47,4 +48,6 @@ public interface ServerLevelBridge {
     BlockSnapshot bridge$createSnapshot(int x, int y, int z);
 
     long[] bridge$recentTickTimes();
+
+    MoveEntityEventFilter bridge$moveEntityEventFilter();
 }
@@ -31,6 +31,7 @@
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
+import org.spongepowered.common.world.level.SpawningPlayerIndex;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.util.function.Predicate;
@@ -61,4 +62,6 @@ public interface LevelBridge {
 
     <E extends Entity> E bridge$createEntity(EntityType<E> type, Vector3d position, boolean naturally);
 
+    SpawningPlayerIndex bridge$spawningPlayers();
+
 }
@@ -36,6 +36,7 @@
 import org.spongepowered.common.config.inheritable.GlobalConfig;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.config.inheritable.WorldConfigSnapshot;
 import org.spongepowered.common.config.tracker.TrackerConfig;
 
 import java.io.IOException;
@@ -75,6 +76,17 @@ public static InheritableConfigHandle<WorldConfig> getForWorld(final net.minecra
         return ((PrimaryLevelDataBridge) mcWorld.getLevelData()).bridge$configAdapter();
     }
 
+    /**
+     * Gets the compiled settings of the world's configuration, for use on
+     * hot paths instead of reading the configuration objects.
+     *
+     * @param mcWorld The world
+     * @return The current snapshot
+     */
+    public static WorldConfigSnapshot getSnapshotForWorld(final net.minecraft.world.level.Level mcWorld) {
+        return SpongeGameConfigs.getForWorld(mcWorld).snapshot();
+    }
+
     public static boolean doesWorldConfigExist(final ResourceKey world) {
         final Path configPath = SpongeConfigs.getDirectory().resolve(Paths.get("worlds", world.namespace(), world.value() + ".conf"));
         return Files.exists(configPath);
@@ -46,6 +46,10 @@ public abstract class BaseConfig implements Config {
     @Setting("movement-checks")
     public final MovementChecksCategory movementChecks = new MovementChecksCategory();
 
+    @Setting("movement-events")
+    @Comment("Used to filter which entity movements throw a natural MoveEntityEvent.")
+    public final MovementEventsCategory movementEvents = new MovementEventsCategory();
+
     @Setting
     public final WorldCategory world = new WorldCategory();
 
@@ -32,9 +32,11 @@
 import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.configurate.transformation.ConfigurationTransformation;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 public final class InheritableConfigHandle<T extends BaseConfig> extends ConfigHandle<T> {
 
@@ -48,6 +50,12 @@
      */
     private CommentedConfigurationNode mergedNode;
 
+    /**
+     * The compiled hot path settings of {@link #instance}, replaced whenever
+     * the configuration is loaded or updated.
+     */
+    private volatile @Nullable WorldConfigSnapshot snapshot;
+
     public InheritableConfigHandle(final Class<T> instanceType, final @Nullable InheritableConfigHandle<?> parent) {
         super(instanceType);
         this.parent = parent;
@@ -63,6 +71,30 @@ public InheritableConfigHandle(
         this.parent = parent;
     }
 
+    /**
+     * Gets the compiled snapshot of the settings read on hot paths, which
+     * reflects the configuration as of the last load, reload or update.
+     *
+     * @return The snapshot
+     */
+    public WorldConfigSnapshot snapshot() {
+        WorldConfigSnapshot snapshot = this.snapshot;
+        final T instance = this.get();
+        // ConfigHandle#reload replaces the instance without going through our load
+        if (snapshot == null || snapshot.source != instance) {
+            snapshot = WorldConfigSnapshot.compile(instance);
+            this.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public CompletableFuture<T> updateAndSave(final UnaryOperator<T> updater) {
+        final CompletableFuture<T> future = super.updateAndSave(updater);
+        this.snapshot = null;
+        return future;
+    }
+
     /**
      * Get or create a value, initializing in the parent configuration if not present.
      *
@@ -75,6 +107,7 @@ public InheritableConfigHandle(
     public <V> V getOrCreateValue(final Function<T, V> getter, final Consumer<BaseConfig> setter, final boolean populate) {
         V ret = getter.apply(this.get());
         if (ret == null && populate) {
+            this.snapshot = null;
             setter.accept(this.get());
             if (this.parent != null) {
                 setter.accept(this.parent.get());
@@ -107,6 +140,7 @@ public void load() throws ConfigurateException {
 
         // populate the config object
         this.instance = mergedNode.get(this.instanceType);
+        this.snapshot = WorldConfigSnapshot.compile(this.instance);
         this.node = node;
         this.mergedNode = mergedNode;
         this.doSave();
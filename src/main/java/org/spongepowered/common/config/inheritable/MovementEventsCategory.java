@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.inheritable;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public final class MovementEventsCategory {
+
+    @Setting("minimum-distance")
+    @Comment("The minimum distance, in blocks, an entity must move within a single tick \n"
+        + "before a natural MoveEntityEvent is thrown for it. Set to 0 to throw the event \n"
+        + "for any movement.")
+    public double minimumDistance = 0.0D;
+
+    @Setting("block-boundary-only")
+    @Comment("If 'true', natural MoveEntityEvents are only thrown when an entity crosses \n"
+        + "a block boundary.")
+    public boolean blockBoundaryOnly = false;
+
+    @Setting("entity-types")
+    @Comment("The entity types natural MoveEntityEvents are thrown for, i.e. [\"minecraft:player\"]. \n"
+        + "Leave empty to throw the event for all entity types.")
+    public final List<String> entityTypes = new ArrayList<>();
+
+    @Setting
+    @Comment("Block regions natural MoveEntityEvents are restricted to. An event is only \n"
+        + "thrown if the entity moves from or into one of these regions. \n"
+        + "Leave empty to throw the event anywhere in the world.")
+    public final List<RegionSubCategory> regions = new ArrayList<>();
+
+    @ConfigSerializable
+    public static final class RegionSubCategory {
+
+        @Setting("min-x")
+        public int minX;
+
+        @Setting("min-y")
+        public int minY;
+
+        @Setting("min-z")
+        public int minZ;
+
+        @Setting("max-x")
+        public int maxX;
+
+        @Setting("max-y")
+        public int maxY;
+
+        @Setting("max-z")
+        public int maxZ;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.inheritable;
+
+import net.minecraft.world.entity.MobCategory;
+
+/**
+ * An immutable copy of the settings of a {@link BaseConfig} that are read on
+ * hot paths, so those do not have to walk the mapped configuration objects
+ * every time. A new snapshot is compiled whenever the configuration is
+ * (re)loaded or updated.
+ */
+public final class WorldConfigSnapshot {
+
+    // The configuration object this was compiled from
+    final BaseConfig source;
+
+    private final int ambientSpawnLimit;
+    private final int creatureSpawnLimit;
+    private final int undergroundAquaticCreatureSpawnLimit;
+    private final int aquaticCreatureSpawnLimit;
+    private final int aquaticAmbientSpawnLimit;
+    private final int monsterSpawnLimit;
+
+    private final int ambientSpawnTickRate;
+    private final int creatureSpawnTickRate;
+    private final int undergroundAquaticCreatureSpawnTickRate;
+    private final int aquaticCreatureSpawnTickRate;
+    private final int aquaticAmbientSpawnTickRate;
+    private final int monsterSpawnTickRate;
+
+    private final double itemMergeRadius;
+    private final int itemDespawnRate;
+    private final int humanTabListRemoveDelay;
+
+    private final double movedTooQuicklyThreshold;
+    private final double vehicleMovedTooQuicklyThreshold;
+    private final double movedWronglyThreshold;
+    private final double vehicleMovedWronglyThreshold;
+    private final boolean movedWrongly;
+    private final boolean playerMovedTooQuickly;
+    private final boolean playerVehicleMovedTooQuickly;
+
+    private WorldConfigSnapshot(final BaseConfig config) {
+        this.source = config;
+
+        final SpawnerCategory.SpawnLimitsSubCategory spawnLimits = config.spawner.spawnLimits;
+        this.ambientSpawnLimit = spawnLimits.ambient;
+        this.creatureSpawnLimit = spawnLimits.creature;
+        this.undergroundAquaticCreatureSpawnLimit = spawnLimits.undergroundAquaticCreature;
+        this.aquaticCreatureSpawnLimit = spawnLimits.aquaticCreature;
+        this.aquaticAmbientSpawnLimit = spawnLimits.aquaticAmbient;
+        this.monsterSpawnLimit = spawnLimits.monster;
+
+        final SpawnerCategory.TickRatesSubCategory tickRates = config.spawner.tickRates;
+        this.ambientSpawnTickRate = tickRates.ambient;
+        this.creatureSpawnTickRate = tickRates.creature;
+        this.undergroundAquaticCreatureSpawnTickRate = tickRates.undergroundAquaticCreature;
+        this.aquaticCreatureSpawnTickRate = tickRates.aquaticCreature;
+        this.aquaticAmbientSpawnTickRate = tickRates.aquaticAmbient;
+        this.monsterSpawnTickRate = tickRates.monster;
+
+        this.itemMergeRadius = Math.max(0, config.world.itemMergeRadius);
+        this.itemDespawnRate = config.entity.item.despawnRate;
+        this.humanTabListRemoveDelay = config.entity.human.tabListRemoveDelay;
+
+        final MovementChecksCategory movementChecks = config.movementChecks;
+        this.movedTooQuicklyThreshold = movementChecks.movedTooQuicklyThreshold;
+        this.vehicleMovedTooQuicklyThreshold = movementChecks.vehicleMovedTooQuicklyThreshold;
+        this.movedWronglyThreshold = movementChecks.movedWronglyThreshold;
+        this.vehicleMovedWronglyThreshold = movementChecks.vehicleMovedWronglyThreshold;
+        this.movedWrongly = movementChecks.movedWrongly;
+        this.playerMovedTooQuickly = movementChecks.player.movedTooQuickly;
+        this.playerVehicleMovedTooQuickly = movementChecks.player.vehicleMovedTooQuickly;
+    }
+
+    static WorldConfigSnapshot compile(final BaseConfig config) {
+        return new WorldConfigSnapshot(config);
+    }
+
+    /**
+     * Gets the maximum amount of entities of the category per chunk.
+     *
+     * @param category The category
+     * @return The spawn limit
+     */
+    public int spawnLimit(final MobCategory category) {
+        switch (category) {
+            case MONSTER:
+                return this.monsterSpawnLimit;
+            case CREATURE:
+                return this.creatureSpawnLimit;
+            case AMBIENT:
+                return this.ambientSpawnLimit;
+            case UNDERGROUND_WATER_CREATURE:
+                return this.undergroundAquaticCreatureSpawnLimit;
+            case WATER_CREATURE:
+                return this.aquaticCreatureSpawnLimit;
+            case WATER_AMBIENT:
+                return this.aquaticAmbientSpawnLimit;
+            default:
+                throw new IllegalStateException("Unexpected value: " + category);
+        }
+    }
+
+    /**
+     * Gets the amount of ticks between spawn attempts of the category.
+     *
+     * @param category The category
+     * @return The tick rate, or -1 if the category is not configurable
+     */
+    public int spawnTickRate(final MobCategory category) {
+        switch (category) {
+            case MONSTER:
+                return this.monsterSpawnTickRate;
+            case CREATURE:
+                return this.creatureSpawnTickRate;
+            case AMBIENT:
+                return this.ambientSpawnTickRate;
+            case UNDERGROUND_WATER_CREATURE:
+                return this.undergroundAquaticCreatureSpawnTickRate;
+            case WATER_CREATURE:
+                return this.aquaticCreatureSpawnTickRate;
+            case WATER_AMBIENT:
+                return this.aquaticAmbientSpawnTickRate;
+            default:
+                return -1;
+        }
+    }
+
+    public double itemMergeRadius() {
+        return this.itemMergeRadius;
+    }
+
+    public int itemDespawnRate() {
+        return this.itemDespawnRate;
+    }
+
+    public int humanTabListRemoveDelay() {
+        return this.humanTabListRemoveDelay;
+    }
+
+    public double movedTooQuicklyThreshold() {
+        return this.movedTooQuicklyThreshold;
+    }
+
+    public double vehicleMovedTooQuicklyThreshold() {
+        return this.vehicleMovedTooQuicklyThreshold;
+    }
+
+    public double movedWronglyThreshold() {
+        return this.movedWronglyThreshold;
+    }
+
+    public double vehicleMovedWronglyThreshold() {
+        return this.vehicleMovedWronglyThreshold;
+    }
+
+    public boolean movedWrongly() {
+        return this.movedWrongly;
+    }
+
+    public boolean playerMovedTooQuickly() {
+        return this.playerMovedTooQuickly;
+    }
+
+    public boolean playerVehicleMovedTooQuickly() {
+        return this.playerVehicleMovedTooQuickly;
+    }
+}
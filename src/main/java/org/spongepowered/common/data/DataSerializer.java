@@ -66,6 +66,12 @@ public static Object serialize(final DataView.SafetyMode safetyMode, final Objec
             final DataTranslator serializer = translator.get();
             return serializer.translate(value);
         }
+        // Plain values are by far the most common thing set on a view (every
+        // translated NBT primitive passes through here), and can never be
+        // registry values, so skip the registry type lookup for them.
+        if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
 
         final Optional<RegistryType<Object>> optRegistryType = SpongeDataManager.INSTANCE.findRegistryTypeFor(value.getClass());
         if (optRegistryType.isPresent()) {
@@ -225,9 +225,11 @@ public void writeTo(Writer output, DataView data) throws IOException {
     private static void writeView(JsonWriter writer, DataView view) throws IOException {
         writer.beginObject();
 
-        for (Map.Entry<DataQuery, Object> entry : view.values(false).entrySet()) {
-            writer.name(entry.getKey().asString('.'));
-            JsonDataFormat.write(writer, entry.getValue());
+        // Walk the keys rather than values(false) so nested views are written
+        // as they are visited instead of being flattened into maps up front.
+        for (final DataQuery query : view.keys(false)) {
+            writer.name(query.asString('.'));
+            JsonDataFormat.write(writer, view.get(query).orElse(null));
         }
 
         writer.endObject();
@@ -59,7 +59,6 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
     @Override
     @SuppressWarnings("resource")
     public void writeTo(OutputStream output, DataView data) throws IOException {
-        CompoundTag tag = NBTTranslator.INSTANCE.translate(data);
         DataOutputStream dos;
         if (output instanceof DataOutputStream) {
             dos = (DataOutputStream) output;
@@ -67,7 +66,7 @@ public void writeTo(OutputStream output, DataView data) throws IOException {
             dos = new DataOutputStream(output);
         }
         try {
-            NbtIo.write(tag, dos);
+            NBTTranslator.INSTANCE.write(data, dos);
         } finally {
             dos.close();
         }
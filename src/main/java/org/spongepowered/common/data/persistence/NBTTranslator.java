@@ -50,6 +50,8 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.Preconditions;
 
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -70,15 +72,19 @@ private static CompoundTag containerToCompound(final DataView container) {
 
     private static void containerToCompound(final DataView container, final CompoundTag compound) {
         // We don't need to get deep values since all nested DataViews will be found
-        // from the instance of checks.
+        // from the instance of checks. Walking the keys rather than values(false)
+        // avoids flattening every nested view into an intermediate map first.
         Objects.requireNonNull(container);
         Objects.requireNonNull(compound);
-        for (Map.Entry<DataQuery, Object> entry : container.values(false).entrySet()) {
-            Object value = entry.getValue();
-            String key = entry.getKey().asString('.');
+        for (final DataQuery query : container.keys(false)) {
+            final Object value = container.get(query).orElse(null);
+            if (value == null) {
+                continue;
+            }
+            final String key = query.asString('.');
             if (value instanceof DataView) {
-                CompoundTag inner = new CompoundTag();
-                NBTTranslator.containerToCompound(container.getView(entry.getKey()).get(), inner);
+                final CompoundTag inner = new CompoundTag();
+                NBTTranslator.containerToCompound((DataView) value, inner);
                 compound.put(key, inner);
             } else if (value instanceof Boolean) {
                 compound.put(key + NBTTranslator.BOOLEAN_IDENTIFIER, ByteTag.valueOf((Boolean) value));
@@ -88,6 +94,37 @@ private static void containerToCompound(final DataView container, final Compound
         }
     }
 
+    private static void writeCompound(final DataView container, final DataOutput output) throws IOException {
+        // Mirrors containerToCompound, but writes each entry in the binary
+        // CompoundTag layout as soon as it is visited so nested views never
+        // have to be held as a tag tree.
+        for (final DataQuery query : container.keys(false)) {
+            final Object value = container.get(query).orElse(null);
+            if (value == null) {
+                continue;
+            }
+            final String key = query.asString('.');
+            if (value instanceof DataView) {
+                output.writeByte(Constants.NBT.TAG_COMPOUND);
+                output.writeUTF(key);
+                NBTTranslator.writeCompound((DataView) value, output);
+            } else if (value instanceof Boolean) {
+                NBTTranslator.writeNamedTag(key + NBTTranslator.BOOLEAN_IDENTIFIER, ByteTag.valueOf((Boolean) value), output);
+            } else {
+                NBTTranslator.writeNamedTag(key, NBTTranslator.getBaseFromObject(value), output);
+            }
+        }
+        output.writeByte(Constants.NBT.TAG_END);
+    }
+
+    private static void writeNamedTag(final String key, final Tag tag, final DataOutput output) throws IOException {
+        output.writeByte(tag.getId());
+        if (tag.getId() != Constants.NBT.TAG_END) {
+            output.writeUTF(key);
+            tag.write(output);
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static Tag getBaseFromObject(final Object value) {
         Objects.requireNonNull(value);
@@ -288,6 +325,23 @@ public void translateContainerToData(CompoundTag node, DataView container) {
         NBTTranslator.containerToCompound(container, node);
     }
 
+    /**
+     * Writes the given {@link DataView} as an unnamed root compound, in the
+     * same binary layout as {@code NbtIo#write},
+     * without first translating the whole view into a {@link CompoundTag}.
+     *
+     * @param view The view to write
+     * @param output The output to write to
+     * @throws IOException If the output could not be written to
+     */
+    public void write(final DataView view, final DataOutput output) throws IOException {
+        Objects.requireNonNull(view);
+        Objects.requireNonNull(output);
+        output.writeByte(Constants.NBT.TAG_COMPOUND);
+        output.writeUTF("");
+        NBTTranslator.writeCompound(view, output);
+    }
+
     public DataContainer translateFrom(CompoundTag node) {
         return NBTTranslator.getViewFromCompound(node);
     }
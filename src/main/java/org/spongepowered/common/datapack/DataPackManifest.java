@@ -0,0 +1,224 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.datapack;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks the content hash of every file written into a plugin data pack
+ * so unchanged entries are not rewritten on every startup and reload.
+ *
+ * <p>Serializers only {@link #queue} their encoded content, which allows
+ * encoding on the thread owning the registries while {@link #flush} does
+ * the file IO elsewhere.</p>
+ */
+public final class DataPackManifest {
+
+    private static final String FILE_NAME = "sponge_manifest.json";
+
+    private final Path packDir;
+    private final boolean tracked;
+    private final Map<Path, byte[]> queued = new LinkedHashMap<>();
+    private final Map<String, String> hashes = new HashMap<>();
+    private final Set<String> written = new HashSet<>();
+    private boolean changed;
+
+    private DataPackManifest(final Path packDir, final boolean tracked) {
+        this.packDir = packDir;
+        this.tracked = tracked;
+    }
+
+    /**
+     * Creates a manifest for the given pack, which is read when first flushed.
+     *
+     * @param packDir The pack directory
+     * @return The manifest
+     */
+    public static DataPackManifest of(final Path packDir) {
+        return new DataPackManifest(packDir, true);
+    }
+
+    /**
+     * Creates a manifest which writes every queued file without recording it,
+     * files outside of the registration pass must not be removed as stale.
+     *
+     * @param packDir The pack directory
+     * @return The manifest
+     */
+    public static DataPackManifest untracked(final Path packDir) {
+        return new DataPackManifest(packDir, false);
+    }
+
+    /**
+     * Gets whether the given directory holds a pack written by Sponge.
+     *
+     * @param packDir The pack directory
+     * @return True if the pack has a manifest
+     */
+    public static boolean exists(final Path packDir) {
+        return Files.isRegularFile(packDir.resolve(DataPackManifest.FILE_NAME));
+    }
+
+    /**
+     * Queues the given content to be written to the file on the next {@link #flush}.
+     *
+     * @param file The file to write
+     * @param content The content
+     */
+    public synchronized void queue(final Path file, final byte[] content) {
+        this.queued.put(file, content);
+    }
+
+    /**
+     * Writes every queued file whose content differs from the file on disk
+     * and saves the manifest.
+     *
+     * @param removeStale Whether files recorded by a previous pass which
+     *     were not written in this one are deleted
+     * @throws IOException If writing failed
+     */
+    public synchronized void flush(final boolean removeStale) throws IOException {
+        if (!this.tracked) {
+            for (final Map.Entry<Path, byte[]> entry : this.queued.entrySet()) {
+                this.writeFile(entry.getKey(), entry.getValue());
+            }
+            this.queued.clear();
+            return;
+        }
+
+        this.read();
+        for (final Map.Entry<Path, byte[]> entry : this.queued.entrySet()) {
+            this.write(entry.getKey(), entry.getValue());
+        }
+        this.queued.clear();
+        if (removeStale) {
+            this.removeStale();
+        }
+        this.save();
+    }
+
+    /**
+     * Gets whether any file of the pack was written or removed since the
+     * manifest was read.
+     *
+     * @return True if the pack changed
+     */
+    public synchronized boolean changed() {
+        return this.changed;
+    }
+
+    private void read() {
+        final Path file = this.packDir.resolve(DataPackManifest.FILE_NAME);
+        if (!this.hashes.isEmpty() || !Files.exists(file)) {
+            return;
+        }
+        try (final BufferedReader reader = Files.newBufferedReader(file)) {
+            final JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
+            for (final Map.Entry<String, JsonElement> entry : root.entrySet()) {
+                this.hashes.put(entry.getKey(), entry.getValue().getAsString());
+            }
+        } catch (final Exception e) {
+            SpongeCommon.logger().warn("Failed to read data pack manifest {}, all entries will be rewritten", file, e);
+            this.hashes.clear();
+        }
+    }
+
+    private void write(final Path file, final byte[] content) throws IOException {
+        final String relativePath = this.relativize(file);
+        final String hash = Hashing.sha256().hashBytes(content).toString();
+        this.written.add(relativePath);
+        // Compare against the file itself, so files edited by hand are restored
+        if (hash.equals(this.hashes.get(relativePath)) && Files.isRegularFile(file)
+            && hash.equals(Hashing.sha256().hashBytes(Files.readAllBytes(file)).toString())) {
+            return;
+        }
+        this.writeFile(file, content);
+        this.hashes.put(relativePath, hash);
+        this.changed = true;
+    }
+
+    private void writeFile(final Path file, final byte[] content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+    }
+
+    private void removeStale() throws IOException {
+        final Iterator<String> iterator = this.hashes.keySet().iterator();
+        while (iterator.hasNext()) {
+            final String relativePath = iterator.next();
+            if (this.written.contains(relativePath)) {
+                continue;
+            }
+            iterator.remove();
+            this.changed = true;
+            final Path file = this.packDir.resolve(relativePath);
+            Files.deleteIfExists(file);
+            // Clean up the namespace and type directories left empty
+            Path dir = file.getParent();
+            while (dir != null && !dir.equals(this.packDir) && dir.startsWith(this.packDir) && DataPackManifest.isEmptyDirectory(dir)) {
+                Files.delete(dir);
+                dir = dir.getParent();
+            }
+        }
+    }
+
+    private void save() throws IOException {
+        if (!this.changed) {
+            return;
+        }
+        final JsonObject root = new JsonObject();
+        this.hashes.forEach(root::addProperty);
+        Files.createDirectories(this.packDir);
+        JsonDataPackSerializer.writeFile(this.packDir.resolve(DataPackManifest.FILE_NAME), root);
+    }
+
+    private String relativize(final Path file) {
+        return this.packDir.relativize(file).toString().replace('\\', '/');
+    }
+
+    private static boolean isEmptyDirectory(final Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return false;
+        }
+        try (final var entries = Files.list(dir)) {
+            return entries.findAny().isEmpty();
+        }
+    }
+}
@@ -47,15 +47,15 @@ public DataPackSerializer(final DataPackEncoder<E, T> encoder, final DataPackDec
         this.decoder = decoder;
     }
 
-    public boolean serialize(final SpongeDataPack<E, T> pack, final Path packDir, final List<T> packEntries) throws IOException {
+    public boolean serialize(final SpongeDataPack<E, T> pack, final Path packDir, final List<T> packEntries, final DataPackManifest manifest) throws IOException {
         if (packEntries.isEmpty()) {
             return false;
         }
 
-        // Write our objects
+        // Encode our objects, the manifest writes them when flushed
         for (final T packEntry : packEntries) {
-            this.serializeObject(pack, packDir, packEntry);
-            this.serializeAdditional(pack, packDir, packEntry);
+            this.serializeObject(pack, packDir, packEntry, manifest);
+            this.serializeAdditional(pack, packDir, packEntry, manifest);
         }
         return true;
     }
@@ -73,9 +73,9 @@ public ResourceLocation location(final SpongeDataPackType<?, T> packType, final
 
     public abstract String fileEnding();
 
-    public abstract void serializeObject(final SpongeDataPack<E, T> pack, final Path packDir, final T packEntry) throws IOException;
+    public abstract void serializeObject(final SpongeDataPack<E, T> pack, final Path packDir, final T packEntry, final DataPackManifest manifest) throws IOException;
 
-    protected abstract void serializeAdditional(final SpongeDataPack<E, T> type, Path packDir, T entry) throws IOException;
+    protected abstract void serializeAdditional(final SpongeDataPack<E, T> type, Path packDir, T entry, DataPackManifest manifest) throws IOException;
 
     public abstract T deserialize(final SpongeDataPack<E, T> pack, final Path file, final ResourceKey key) throws IOException;
 
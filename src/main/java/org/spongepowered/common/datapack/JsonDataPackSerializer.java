@@ -36,6 +36,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -52,12 +53,11 @@ public String fileEnding() {
     }
 
     @Override
-    public void serializeObject(final SpongeDataPack<JsonElement, T> pack, final Path packDir, final T packEntry) throws IOException {
+    public void serializeObject(final SpongeDataPack<JsonElement, T> pack, final Path packDir, final T packEntry, final DataPackManifest manifest) throws IOException {
         final JsonElement serialized = this.encoder.encode(packEntry, SpongeCommon.server().registryAccess());
         final Path file = this.packEntryFile(pack.type(), packEntry.key(), packDir);
         final JsonElement finalJson = this.transformSerialized(file, packEntry, serialized);
-        Files.createDirectories(file.getParent());
-        JsonDataPackSerializer.writeFile(file, finalJson);
+        manifest.queue(file, JsonDataPackSerializer.toBytes(finalJson));
     }
 
     protected JsonElement transformSerialized(final Path file, final T entry, final JsonElement serialized) throws IOException {
@@ -65,7 +65,7 @@ protected JsonElement transformSerialized(final Path file, final T entry, final
     }
 
     @Override
-    protected void serializeAdditional(final SpongeDataPack<JsonElement, T> type, Path packDir, T entry) throws IOException {
+    protected void serializeAdditional(final SpongeDataPack<JsonElement, T> type, Path packDir, T entry, DataPackManifest manifest) throws IOException {
     }
 
     @Override
@@ -88,6 +88,10 @@ public T deserialize(final SpongeDataPack<JsonElement, T> pack, final InputStrea
         return null;
     }
 
+    public static byte[] toBytes(final JsonElement object) {
+        return JsonDataPackSerializer.GSON.toJson(object).getBytes(StandardCharsets.UTF_8);
+    }
+
     public static void writeFile(final Path file, final JsonElement object) throws IOException {
         try (BufferedWriter writer = Files.newBufferedWriter(file)) {
             JsonDataPackSerializer.GSON.toJson(object, writer);
@@ -31,6 +31,7 @@
 import org.spongepowered.api.datapack.DataPackEntry;
 import org.spongepowered.common.SpongeCommon;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -49,15 +50,16 @@ public String fileEnding() {
     }
 
     @Override
-    public void serializeObject(final SpongeDataPack<CompoundTag, T> pack, final Path packDir, final T packEntry) throws IOException {
+    public void serializeObject(final SpongeDataPack<CompoundTag, T> pack, final Path packDir, final T packEntry, final DataPackManifest manifest) throws IOException {
         final CompoundTag serialized = this.encoder.encode(packEntry, SpongeCommon.server().registryAccess());
         final Path file = this.packEntryFile(pack.type(), packEntry.key(), packDir);
-        Files.createDirectories(file.getParent());
-        NbtDataPackSerializer.writeFile(file, serialized);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NbtIo.writeCompressed(serialized, out);
+        manifest.queue(file, out.toByteArray());
     }
 
     @Override
-    protected void serializeAdditional(final SpongeDataPack<CompoundTag, T> type, Path packDir, T entry) throws IOException {
+    protected void serializeAdditional(final SpongeDataPack<CompoundTag, T> type, Path packDir, T entry, DataPackManifest manifest) throws IOException {
     }
 
     @Override
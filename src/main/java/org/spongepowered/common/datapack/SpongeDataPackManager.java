@@ -25,6 +25,7 @@
 package org.spongepowered.common.datapack;
 
 import com.google.gson.JsonElement;
+import net.minecraft.Util;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.packs.PackResources;
@@ -57,11 +58,15 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -119,12 +124,39 @@ public List<String> registerPacks() {
         SpongeIngredient.clearCache();
         IngredientResultUtil.clearCache();
 
+        // Entries are collected and encoded on the main thread as the codecs need its registries,
+        // only the file IO of each pack directory is then done by a single task in parallel
+        final Map<String, List<PackEntries<?>>> packs = new LinkedHashMap<>();
+        this.registerPackEntries(DataPackTypes.ADVANCEMENT, packs);
+        this.registerPackEntries(DataPackTypes.RECIPE, packs);
+        this.registerPackEntries(DataPackTypes.BLOCK_TAG, packs);
+        this.registerPackEntries(DataPackTypes.DAMAGE_TYPE, packs);
+        this.registerPackEntries(DataPackTypes.DAMAGE_TYPE_TAG, packs);
+
+        final Map<String, PackOutput> outputs = new LinkedHashMap<>();
+        final Map<String, Boolean> reloadable = new HashMap<>();
+        for (final List<PackEntries<?>> packEntries : packs.values()) {
+            for (final PackEntries<?> entries : packEntries) {
+                this.serializeEntries(entries, outputs, reloadable, DataPackManifest::of);
+            }
+        }
+
+        // Files of entries which failed to encode are kept
+        final Map<String, CompletableFuture<Boolean>> writes = new HashMap<>();
+        outputs.forEach((packName, output) -> writes.put(packName, CompletableFuture.supplyAsync(() -> output.flush(!output.failed().get()), Util.backgroundExecutor())));
+        final CompletableFuture<List<String>> abandoned = CompletableFuture.supplyAsync(() -> this.removeAbandonedPacks(outputs.keySet()), Util.backgroundExecutor());
+
+        // Unchanged packs that are already selected do not need to be reloaded
+        final Collection<String> selectedPacks = this.server.getPackRepository().getSelectedIds();
         final List<String> reloadablePacks = new ArrayList<>();
-        this.registerAndSerializePack(DataPackTypes.ADVANCEMENT, reloadablePacks);
-        this.registerAndSerializePack(DataPackTypes.RECIPE, reloadablePacks);
-        this.registerAndSerializePack(DataPackTypes.BLOCK_TAG, reloadablePacks);
-        this.registerAndSerializePack(DataPackTypes.DAMAGE_TYPE, reloadablePacks);
-        this.registerAndSerializePack(DataPackTypes.DAMAGE_TYPE_TAG, reloadablePacks);
+        outputs.forEach((packName, output) -> {
+            final String fullPackName = "file/" + packName;
+            if (writes.get(packName).join() && reloadable.get(packName)
+                && (!selectedPacks.contains(fullPackName) || output.manifest().changed())) {
+                reloadablePacks.add(fullPackName);
+            }
+        });
+        abandoned.join().stream().filter(selectedPacks::contains).forEach(reloadablePacks::add);
         return reloadablePacks;
     }
 
@@ -135,34 +167,64 @@ private <T extends DataPackEntry<T>> List<T> callRegisterDataPackValueEvent(fina
     }
 
     @SuppressWarnings("unchecked")
-    private <T extends DataPackEntry<T>> void registerAndSerializePack(final DataPackType<T> type, final Collection<String> reloadablePacks) {
+    private <T extends DataPackEntry<T>> void registerPackEntries(final DataPackType<T> type, final Map<String, List<PackEntries<?>>> packs) {
         final List<T> packEntries = this.callRegisterDataPackValueEvent((SpongeDataPackType<JsonElement, T>) type);
-        if (packEntries.isEmpty()) {
-            return;
-        }
-        this.serializePack(reloadablePacks, packEntries);
+        SpongeDataPackManager.groupByPack(packEntries, packs);
     }
 
-    private <T extends DataPackEntry<T>> void serializePack(final Collection<String> reloadablePacks, final List<T> packEntries) {
-        final Map<DataPack<T>, List<T>> packEntryMap = packEntries.stream().collect(Collectors.groupingBy(DataPackEntry::pack));
+    @SuppressWarnings("unchecked")
+    private static <T extends DataPackEntry<T>> void groupByPack(final List<T> packEntries, final Map<String, List<PackEntries<?>>> packs) {
+        final Map<DataPack<T>, List<T>> packEntryMap = packEntries.stream()
+            .collect(Collectors.groupingBy(DataPackEntry::pack, LinkedHashMap::new, Collectors.toList()));
         for (final Map.Entry<DataPack<T>, List<T>> entry : packEntryMap.entrySet()) {
-            final SpongeDataPack<JsonElement, T> implPack = (SpongeDataPack<JsonElement, T>) entry.getKey();
-            final String fullPackName = "file/" + implPack.name();
-            try {
-                final boolean success = implPack.type().packSerializer().serialize(implPack, this.packDir(implPack), entry.getValue());
-                DataPackSerializer.writePackMetadata(implPack, this.packDir(implPack), false);
-                if (success && implPack.type().reloadable()) {
-                    if (!reloadablePacks.contains(fullPackName)) {
-                        reloadablePacks.add(fullPackName);
-                    }
-                } else {
-                    reloadablePacks.remove(fullPackName);
+            packs.computeIfAbsent(entry.getKey().name(), k -> new ArrayList<>())
+                .add(new PackEntries<>((SpongeDataPack<JsonElement, T>) entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private <T extends DataPackEntry<T>> void serializeEntries(final PackEntries<T> entries, final Map<String, PackOutput> outputs,
+            final Map<String, Boolean> reloadable, final Function<Path, DataPackManifest> manifestFactory) {
+        final SpongeDataPack<JsonElement, T> implPack = entries.pack();
+        final PackOutput output = outputs.computeIfAbsent(implPack.name(), k -> {
+            final Path packDir = this.packDir(implPack);
+            return new PackOutput(implPack, packDir, manifestFactory.apply(packDir), new AtomicBoolean());
+        });
+        try {
+            final boolean success = implPack.type().packSerializer().serialize(implPack, output.packDir(), entries.entries(), output.manifest());
+            reloadable.put(implPack.name(), success && implPack.type().reloadable());
+        } catch (final IOException e) {
+            reloadable.put(implPack.name(), false);
+            output.failed().set(true);
+            SpongeCommon.logger().error(e);
+        }
+    }
+
+    /**
+     * Removes the files of packs written by a previous pass which no longer have any entries.
+     *
+     * @return The full names of the packs files were removed from
+     */
+    private List<String> removeAbandonedPacks(final Set<String> packNames) {
+        final List<String> changedPacks = new ArrayList<>();
+        if (!Files.isDirectory(this.packsDir)) {
+            return changedPacks;
+        }
+        try (final Stream<Path> packDirs = Files.list(this.packsDir)) {
+            for (final Path packDir : packDirs.toList()) {
+                final String packName = packDir.getFileName().toString();
+                if (packNames.contains(packName) || !DataPackManifest.exists(packDir)) {
+                    continue;
+                }
+                final DataPackManifest manifest = DataPackManifest.of(packDir);
+                manifest.flush(true);
+                if (manifest.changed()) {
+                    changedPacks.add("file/" + packName);
                 }
-            } catch (final IOException e) {
-                reloadablePacks.remove(fullPackName);
-                SpongeCommon.logger().error(e);
             }
+        } catch (final IOException e) {
+            SpongeCommon.logger().error("Failed to remove abandoned data pack entries", e);
         }
+        return changedPacks;
     }
 
     @Override
@@ -171,7 +233,13 @@ public <T extends DataPackEntry<T>> CompletableFuture<Boolean> save(final T entr
             return CompletableFuture.completedFuture(false);
         }
         // TODO this is actually blocking
-        this.serializePack(new ArrayList<>(), List.of(entry));
+        final Map<String, List<PackEntries<?>>> packs = new HashMap<>();
+        SpongeDataPackManager.groupByPack(List.of(entry), packs);
+        // Entries saved outside of registration are not tracked, the next registration pass would remove them otherwise
+        final Map<String, PackOutput> outputs = new HashMap<>();
+        final Map<String, Boolean> reloadable = new HashMap<>();
+        packs.values().forEach(packEntries -> packEntries.forEach(entries -> this.serializeEntries(entries, outputs, reloadable, DataPackManifest::untracked)));
+        outputs.values().forEach(output -> output.flush(false));
         return CompletableFuture.completedFuture(((SpongeDataPackType)entry.pack().type()).reloadable());
     }
 
@@ -342,4 +410,26 @@ private Path packDir(final DataPack<?> pack) {
         return this.packsDir.resolve(pack.name());
     }
 
+    private record PackEntries<T extends DataPackEntry<T>>(SpongeDataPack<JsonElement, T> pack, List<T> entries) {
+    }
+
+    private record PackOutput(SpongeDataPack<?, ?> pack, Path packDir, DataPackManifest manifest, AtomicBoolean failed) {
+
+        /**
+         * Writes the queued files and the metadata of the pack.
+         *
+         * @return True if the pack was written successfully
+         */
+        boolean flush(final boolean removeStale) {
+            try {
+                this.manifest.flush(removeStale);
+                DataPackSerializer.writePackMetadata(this.pack, this.packDir, false);
+                return true;
+            } catch (final IOException e) {
+                SpongeCommon.logger().error(e);
+                return false;
+            }
+        }
+    }
+
 }
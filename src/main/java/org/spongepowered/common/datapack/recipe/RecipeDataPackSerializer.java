@@ -30,12 +30,12 @@
 import org.spongepowered.api.item.recipe.RecipeRegistration;
 import org.spongepowered.common.datapack.DataPackDecoder;
 import org.spongepowered.common.datapack.DataPackEncoder;
+import org.spongepowered.common.datapack.DataPackManifest;
 import org.spongepowered.common.datapack.JsonDataPackSerializer;
 import org.spongepowered.common.datapack.SpongeDataPack;
 import org.spongepowered.common.item.recipe.SpongeRecipeRegistration;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 public final class RecipeDataPackSerializer extends JsonDataPackSerializer<RecipeRegistration> {
@@ -48,7 +48,7 @@ public RecipeDataPackSerializer(final DataPackEncoder<JsonElement, RecipeRegistr
     @Override
     protected void serializeAdditional(
             final SpongeDataPack<JsonElement, RecipeRegistration> type, final Path packDir,
-            final RecipeRegistration entry) throws IOException {
+            final RecipeRegistration entry, final DataPackManifest manifest) throws IOException {
         if (entry instanceof SpongeRecipeRegistration<?> spongeReg) {
             final var serialized = Advancement.CODEC.encodeStart(JsonOps.INSTANCE, spongeReg.advancement().value());
 
@@ -56,9 +56,8 @@ protected void serializeAdditional(
                     .resolve(entry.key().namespace())
                     .resolve("advancement")
                     .resolve(entry.key().value() + ".json");
-            Files.createDirectories(file.getParent());
 
-            JsonDataPackSerializer.writeFile(file, serialized.result().get());
+            manifest.queue(file, JsonDataPackSerializer.toBytes(serialized.result().get()));
         }
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.effect.util;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundSoundPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import org.spongepowered.common.bridge.effect.ViewerBridge;
+
+/**
+ * Sends world level effects only to the players that can perceive them,
+ * rather than to every player of the world.
+ */
+public final class ViewerBroadcastUtil {
+
+    /**
+     * Sends the packet to the players that have the chunk containing the
+     * given block position within their view distance.
+     *
+     * @param level The level
+     * @param x The block x position
+     * @param z The block z position
+     * @param packet The packet
+     */
+    public static void sendToTracking(final ServerLevel level, final int x, final int z, final Packet<ClientGamePacketListener> packet) {
+        final ChunkPos chunkPos = new ChunkPos(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
+        for (final ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(chunkPos, false)) {
+            ((ViewerBridge) player).bridge$sendToViewer(packet);
+        }
+    }
+
+    /**
+     * Sends the packet to the players of the level that are within the
+     * given radius of the position.
+     *
+     * @param level The level
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @param radius The radius
+     * @param packet The packet
+     */
+    public static void sendWithin(final ServerLevel level, final double x, final double y, final double z, final double radius,
+            final Packet<ClientGamePacketListener> packet) {
+        final double radiusSq = radius * radius;
+        for (final ServerPlayer player : level.players()) {
+            if (player.distanceToSqr(x, y, z) < radiusSq) {
+                ((ViewerBridge) player).bridge$sendToViewer(packet);
+            }
+        }
+    }
+
+    /**
+     * Sends the sound to the players within its audible range, like vanilla
+     * broadcasts the sounds it plays.
+     *
+     * @param level The level
+     * @param packet The sound packet
+     */
+    public static void playSound(final ServerLevel level, final ClientboundSoundPacket packet) {
+        final float range = packet.getSound().value().getRange(packet.getVolume());
+        ViewerBroadcastUtil.sendWithin(level, packet.getX(), packet.getY(), packet.getZ(), range, packet);
+    }
+
+    private ViewerBroadcastUtil() {
+    }
+}
@@ -72,9 +72,7 @@
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.scores.PlayerTeam;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.profile.property.ProfileProperty;
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.scoreboard.TeamMember;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.network.protocol.game.ClientboundAddEntityPacketAccessor;
@@ -82,10 +80,8 @@
 import org.spongepowered.common.accessor.world.entity.LivingEntityAccessor;
 import org.spongepowered.common.accessor.world.entity.player.PlayerAccessor;
 import org.spongepowered.common.config.SpongeGameConfigs;
-import org.spongepowered.common.launch.Launch;
 import org.spongepowered.common.profile.SpongeProfileProperty;
 import org.spongepowered.common.util.Constants;
-import org.spongepowered.common.util.SpongeTicks;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -355,18 +351,17 @@ public boolean getOrLoadSkin(final String minecraftAccount) {
         return true;
     }
 
-    public void removeFromTabListDelayed(final @Nullable ServerPlayer player, final ClientboundPlayerInfoRemovePacket removePacket) {
-        final int delay = SpongeGameConfigs.getForWorld(this.level()).get().entity.human.tabListRemoveDelay;
-        final Runnable removeTask = () -> this.pushPackets(player, removePacket);
-        if (delay == 0) {
-            removeTask.run();
-        } else {
-            Sponge.server().scheduler().submit(Task.builder()
-                    .execute(removeTask)
-                    .delay(new SpongeTicks(delay))
-                    .plugin(Launch.instance().commonPlugin())
-                    .build());
-        }
+    /**
+     * Queues the fake profile to be removed from the tab list of the given
+     * player once the configured delay has passed after the human spawned,
+     * together with any other human removals due for that player.
+     *
+     * @param player The player tracking this human
+     * @param removePacket The tab list removal
+     */
+    public void removeFromTabListDelayed(final ServerPlayer player, final ClientboundPlayerInfoRemovePacket removePacket) {
+        final int delay = SpongeGameConfigs.getSnapshotForWorld(this.level()).humanTabListRemoveDelay();
+        SpongeCommon.serverScheduler().humanPairings().removeFromTabList(player, removePacket.profileIds(), delay);
     }
 
     public SpongeProfileProperty getSkinProperty() {
@@ -410,14 +405,14 @@ public boolean canRemoveFromListImmediately() {
     /**
      * Called when a player stops tracking this human.
      *
-     * Removes the player from the packet queue and sends them a REMOVE_PLAYER
+     * Removes the player from the packet queue and queues a REMOVE_PLAYER
      * tab list packet to make sure the human is not on it.
      *
      * @param player The player that has stopped tracking this human
      */
     public void untrackFrom(final ServerPlayer player) {
         this.playerPacketMap.remove(player.getUUID());
-        player.connection.send(new ClientboundPlayerInfoRemovePacket(List.of(this.uuid)));
+        SpongeCommon.serverScheduler().humanPairings().unpair(player, this);
     }
 
     /**
@@ -0,0 +1,217 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.living.human;
+
+import net.minecraft.network.protocol.BundlerInfo;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.network.protocol.game.ClientboundPlayerInfoRemovePacket;
+import net.minecraft.network.protocol.game.ClientboundPlayerInfoUpdatePacket;
+import net.minecraft.server.level.ServerEntity;
+import net.minecraft.server.level.ServerPlayer;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundPlayerInfoUpdatePacketAccessor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Collects the {@link HumanEntity humans} that start or stop being tracked
+ * by each player during a tick, so that all of them can be added to and
+ * removed from the player's tab list with a single packet each, and spawned
+ * with a single bundle, instead of sending a set of packets per human.
+ *
+ * <p>The queue is flushed at the end of entity tracking, within the same
+ * tick, and the pairing packets are only built then so they reflect the
+ * state the tracker has just sent to everyone else.</p>
+ */
+public final class HumanPairingQueue {
+
+    private final Map<ServerPlayer, PlayerQueue> players = new LinkedHashMap<>();
+
+    /**
+     * Queues a human to be paired with the given player, replacing any
+     * pairing of the same human that was queued earlier.
+     *
+     * @param player The player that started tracking the human
+     * @param human The human
+     * @param serverEntity The tracker entry of the human
+     */
+    public void pair(final ServerPlayer player, final HumanEntity human, final ServerEntity serverEntity) {
+        this.queue(player).pairings.put(human, serverEntity);
+    }
+
+    /**
+     * Drops any pairing of the human that has not been sent to the player yet
+     * and queues the human to be removed from the player's tab list.
+     *
+     * @param player The player that stopped tracking the human
+     * @param human The human
+     */
+    public void unpair(final ServerPlayer player, final HumanEntity human) {
+        final PlayerQueue queue = this.queue(player);
+        queue.pairings.remove(human);
+        queue.removals.add(human.getUUID());
+    }
+
+    /**
+     * Queues the given profiles to be removed from the player's tab list once
+     * the given amount of ticks passed after the pending pairings have been
+     * sent.
+     *
+     * @param player The player
+     * @param profileIds The profiles to remove
+     * @param delay The delay in ticks
+     */
+    public void removeFromTabList(final ServerPlayer player, final Collection<UUID> profileIds, final int delay) {
+        final PlayerQueue queue = this.queue(player);
+        for (final UUID profileId : profileIds) {
+            queue.unscheduled.add(new DelayedRemoval(profileId, delay));
+        }
+    }
+
+    public void flush() {
+        if (this.players.isEmpty()) {
+            return;
+        }
+        final int now = SpongeCommon.server().getTickCount();
+        for (final Iterator<Map.Entry<ServerPlayer, PlayerQueue>> iterator = this.players.entrySet().iterator(); iterator.hasNext(); ) {
+            final Map.Entry<ServerPlayer, PlayerQueue> entry = iterator.next();
+            final ServerPlayer player = entry.getKey();
+            final PlayerQueue queue = entry.getValue();
+            if (player.hasDisconnected()) {
+                iterator.remove();
+                continue;
+            }
+            queue.flush(player, now);
+            if (queue.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private PlayerQueue queue(final ServerPlayer player) {
+        return this.players.computeIfAbsent(player, k -> new PlayerQueue());
+    }
+
+    private static final class PlayerQueue {
+
+        final Map<HumanEntity, ServerEntity> pairings = new LinkedHashMap<>();
+        final Set<UUID> removals = new LinkedHashSet<>();
+        final List<DelayedRemoval> unscheduled = new ArrayList<>();
+        final List<ScheduledRemoval> scheduled = new ArrayList<>();
+
+        boolean isEmpty() {
+            return this.pairings.isEmpty() && this.removals.isEmpty() && this.unscheduled.isEmpty() && this.scheduled.isEmpty();
+        }
+
+        void flush(final ServerPlayer player, final int now) {
+            // Removals that are due, or caused by the player no longer tracking
+            // a human, are sent first so a human that was untracked and tracked
+            // again within the tick ends up on the client.
+            for (final Iterator<ScheduledRemoval> iterator = this.scheduled.iterator(); iterator.hasNext(); ) {
+                final ScheduledRemoval removal = iterator.next();
+                if (removal.dueTick() <= now) {
+                    iterator.remove();
+                    this.removals.add(removal.profileId());
+                }
+            }
+            if (!this.removals.isEmpty()) {
+                player.connection.send(new ClientboundPlayerInfoRemovePacket(List.copyOf(this.removals)));
+                this.removals.clear();
+            }
+
+            if (!this.pairings.isEmpty()) {
+                final List<HumanEntity> paired = new ArrayList<>(this.pairings.size());
+                final Map<EnumSet<ClientboundPlayerInfoUpdatePacket.Action>, List<ClientboundPlayerInfoUpdatePacket.Entry>> infos = new LinkedHashMap<>();
+                final List<Packet<? super ClientGamePacketListener>> spawns = new ArrayList<>();
+                final Set<UUID> spawnedRemovals = new LinkedHashSet<>();
+                final List<Packet<? super ClientGamePacketListener>> packets = new ArrayList<>();
+                for (final Map.Entry<HumanEntity, ServerEntity> pairing : this.pairings.entrySet()) {
+                    if (pairing.getKey().isRemoved()) {
+                        continue;
+                    }
+                    paired.add(pairing.getKey());
+                    pairing.getValue().sendPairingData(player, packets::add);
+                    for (final Packet<? super ClientGamePacketListener> packet : packets) {
+                        if (packet instanceof final ClientboundPlayerInfoUpdatePacket info) {
+                            infos.computeIfAbsent(info.actions(), k -> new ArrayList<>()).addAll(info.entries());
+                        } else if (packet instanceof final ClientboundPlayerInfoRemovePacket remove) {
+                            spawnedRemovals.addAll(remove.profileIds());
+                        } else {
+                            spawns.add(packet);
+                        }
+                    }
+                    packets.clear();
+                }
+                this.pairings.clear();
+
+                for (final Map.Entry<EnumSet<ClientboundPlayerInfoUpdatePacket.Action>, List<ClientboundPlayerInfoUpdatePacket.Entry>> info : infos.entrySet()) {
+                    final ClientboundPlayerInfoUpdatePacket packet = new ClientboundPlayerInfoUpdatePacket(info.getKey(), List.of());
+                    ((ClientboundPlayerInfoUpdatePacketAccessor) packet).accessor$entries(info.getValue());
+                    player.connection.send(packet);
+                }
+                for (int i = 0; i < spawns.size(); i += BundlerInfo.BUNDLE_SIZE_LIMIT) {
+                    player.connection.send(new ClientboundBundlePacket(spawns.subList(i, Math.min(spawns.size(), i + BundlerInfo.BUNDLE_SIZE_LIMIT))));
+                }
+                for (final HumanEntity human : paired) {
+                    human.startSeenByPlayer(player);
+                }
+                for (final Iterator<DelayedRemoval> iterator = this.unscheduled.iterator(); iterator.hasNext(); ) {
+                    final DelayedRemoval removal = iterator.next();
+                    if (removal.delay() <= 0) {
+                        iterator.remove();
+                        spawnedRemovals.add(removal.profileId());
+                    }
+                }
+                if (!spawnedRemovals.isEmpty()) {
+                    player.connection.send(new ClientboundPlayerInfoRemovePacket(List.copyOf(spawnedRemovals)));
+                }
+            }
+
+            // The delay of a removal only starts once the human was actually
+            // spawned on the client, so it can tick at least once to load its skin.
+            for (final DelayedRemoval removal : this.unscheduled) {
+                this.scheduled.add(new ScheduledRemoval(removal.profileId(), now + Math.max(1, removal.delay())));
+            }
+            this.unscheduled.clear();
+        }
+    }
+
+    private record DelayedRemoval(UUID profileId, int delay) {
+    }
+
+    private record ScheduledRemoval(UUID profileId, int dueTick) {
+    }
+}
@@ -38,14 +38,17 @@
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.entity.living.player.tab.TabList;
 import org.spongepowered.api.entity.living.player.tab.TabListEntry;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.network.protocol.game.ClientboundPlayerInfoUpdatePacketAccessor;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.profile.SpongeGameProfile;
 import org.spongepowered.common.util.Preconditions;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -60,6 +63,8 @@ public final class SpongeTabList implements TabList {
     private @Nullable Component header;
     private @Nullable Component footer;
     private final Map<UUID, TabListEntry> entries = Maps.newHashMap();
+    // Entries with changes that have not been sent yet, and the changed fields
+    private final Map<UUID, EnumSet<ClientboundPlayerInfoUpdatePacket.Action>> dirty = new LinkedHashMap<>();
 
     public SpongeTabList(final net.minecraft.server.level.ServerPlayer player) {
         this.player = player;
@@ -165,7 +170,8 @@ private void addEntry(final TabListEntry entry, final boolean exceptionOnDuplica
         }
 
         if (prev == null) {
-            this.sendUpdate(entry, EnumSet.allOf(ClientboundPlayerInfoUpdatePacket.Action.class));
+            // The remaining actions are narrowed down to the non default fields when sent
+            this.sendUpdate(entry, EnumSet.of(ClientboundPlayerInfoUpdatePacket.Action.ADD_PLAYER));
         }
     }
 
@@ -175,6 +181,7 @@ public Optional<TabListEntry> removeEntry(final UUID uniqueId) {
 
         final TabListEntry entry = this.entries.remove(uniqueId);
         if (entry != null) {
+            this.dirty.remove(uniqueId);
             this.player.connection.send(new ClientboundPlayerInfoRemovePacket(List.of(entry.profile().uniqueId())));
             return Optional.of(entry);
         }
@@ -182,21 +189,83 @@ public Optional<TabListEntry> removeEntry(final UUID uniqueId) {
     }
 
     /**
-     * Send an entry update.
+     * Queue an entry update, to be sent with all other changes of this tick.
      *
      * @param entry The entry to update
      * @param actions The update action to perform
      */
-    @SuppressWarnings("ConstantConditions")
     void sendUpdate(final TabListEntry entry, final EnumSet<ClientboundPlayerInfoUpdatePacket.Action> actions) {
-        final ClientboundPlayerInfoUpdatePacket packet = new ClientboundPlayerInfoUpdatePacket(actions, List.of());
+        final boolean wasClean = this.dirty.isEmpty();
+        final EnumSet<ClientboundPlayerInfoUpdatePacket.Action> pending = this.dirty.get(entry.profile().uniqueId());
+        if (pending == null) {
+            this.dirty.put(entry.profile().uniqueId(), EnumSet.copyOf(actions));
+        } else {
+            pending.addAll(actions);
+        }
+        if (wasClean) {
+            SpongeCommon.serverScheduler().markTabListDirty(this);
+        }
+    }
+
+    /**
+     * Sends all entry updates queued since the last flush, entries with the
+     * same changed fields share a single packet.
+     */
+    public void flushUpdates() {
+        if (this.dirty.isEmpty()) {
+            return;
+        }
+        final Map<EnumSet<ClientboundPlayerInfoUpdatePacket.Action>, List<ClientboundPlayerInfoUpdatePacket.Entry>> packets = new LinkedHashMap<>();
+        for (final Map.Entry<UUID, EnumSet<ClientboundPlayerInfoUpdatePacket.Action>> dirtyEntry : this.dirty.entrySet()) {
+            final TabListEntry entry = this.entries.get(dirtyEntry.getKey());
+            if (entry == null) {
+                continue;
+            }
+            final EnumSet<ClientboundPlayerInfoUpdatePacket.Action> actions = dirtyEntry.getValue();
+            if (actions.contains(ClientboundPlayerInfoUpdatePacket.Action.ADD_PLAYER)) {
+                SpongeTabList.addInitialActions(entry, actions);
+            }
+            packets.computeIfAbsent(actions, k -> new ArrayList<>()).add(SpongeTabList.createEntryData(entry));
+        }
+        this.dirty.clear();
+        if (this.player.hasDisconnected()) {
+            return;
+        }
+        for (final Map.Entry<EnumSet<ClientboundPlayerInfoUpdatePacket.Action>, List<ClientboundPlayerInfoUpdatePacket.Entry>> entries : packets.entrySet()) {
+            final ClientboundPlayerInfoUpdatePacket packet = new ClientboundPlayerInfoUpdatePacket(entries.getKey(), List.of());
+            ((ClientboundPlayerInfoUpdatePacketAccessor) packet).accessor$entries(entries.getValue());
+            this.player.connection.send(packet);
+        }
+    }
+
+    /**
+     * Adds the actions for the fields of a new entry that differ from what
+     * the client assumes for an entry that only had {@code ADD_PLAYER} sent.
+     */
+    private static void addInitialActions(final TabListEntry entry, final EnumSet<ClientboundPlayerInfoUpdatePacket.Action> actions) {
+        if (((SpongeTabListEntry) entry).profilePublicKey() != null) {
+            actions.add(ClientboundPlayerInfoUpdatePacket.Action.INITIALIZE_CHAT);
+        }
+        if ((GameType) (Object) entry.gameMode() != GameType.DEFAULT_MODE) {
+            actions.add(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_GAME_MODE);
+        }
+        if (entry.listed()) {
+            actions.add(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_LISTED);
+        }
+        if (entry.latency() != 0) {
+            actions.add(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_LATENCY);
+        }
+        if (entry.displayName().isPresent()) {
+            actions.add(ClientboundPlayerInfoUpdatePacket.Action.UPDATE_DISPLAY_NAME);
+        }
+    }
 
+    @SuppressWarnings("ConstantConditions")
+    private static ClientboundPlayerInfoUpdatePacket.Entry createEntryData(final TabListEntry entry) {
         final RemoteChatSession.Data chatSessionData = ((SpongeTabListEntry) entry).profilePublicKey() == null ? null : new RemoteChatSession.Data(entry.profile().uuid(), ((SpongeTabListEntry) entry).profilePublicKey());
         final net.minecraft.network.chat.Component displayName = entry.displayName().isPresent() ? SpongeAdventure.asVanilla(entry.displayName().get()) : null;
-        final ClientboundPlayerInfoUpdatePacket.Entry data = new ClientboundPlayerInfoUpdatePacket.Entry(entry.profile().uniqueId(), SpongeGameProfile.toMcProfile(entry.profile()),
+        return new ClientboundPlayerInfoUpdatePacket.Entry(entry.profile().uniqueId(), SpongeGameProfile.toMcProfile(entry.profile()),
             entry.listed(), entry.latency(), (GameType) (Object) entry.gameMode(), displayName, chatSessionData);
-        ((ClientboundPlayerInfoUpdatePacketAccessor) packet).accessor$entries(List.of(data));
-        this.player.connection.send(packet);
     }
 
     /**
@@ -237,6 +306,22 @@ public void updateEntriesOnSend(final ClientboundPlayerInfoUpdatePacket packet)
         }
     }
 
+    /**
+     * Removes the entries removed by the provided packet from this tab list,
+     * dropping any of their changes that have not been sent yet.
+     *
+     * <p>This method should not be called manually, it is automatically
+     * called in the player's network connection when the packet is sent.</p>
+     *
+     * @param packet The packet to process
+     */
+    public void removeEntriesOnSend(final ClientboundPlayerInfoRemovePacket packet) {
+        for (final UUID profileId : packet.profileIds()) {
+            this.entries.remove(profileId);
+            this.dirty.remove(profileId);
+        }
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", SpongeTabList.class.getSimpleName() + "[", "]")
@@ -0,0 +1,167 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.config.inheritable.MovementEventsCategory;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * A per-world index of the entity movements a natural
+ * {@link org.spongepowered.api.event.entity.MoveEntityEvent} is thrown for,
+ * compiled from the world's {@link MovementEventsCategory}. The checks
+ * performed here only read primitive entity state so entities that are
+ * filtered out never allocate a cause frame or any event positions.
+ */
+public final class MoveEntityEventFilter {
+
+    private static final double MOVEMENT_GRID_POINTS_PER_BLOCK = 8.0d;
+
+    private final MovementEventsCategory source;
+    private final double minimumDistanceSquared;
+    private final boolean blockBoundaryOnly;
+    private final @Nullable Set<EntityType<?>> entityTypes;
+    // Packed as minX, minY, minZ, maxX, maxY, maxZ per region
+    private final int[] regions;
+
+    private MoveEntityEventFilter(final MovementEventsCategory source) {
+        this.source = source;
+        this.minimumDistanceSquared = source.minimumDistance * source.minimumDistance;
+        this.blockBoundaryOnly = source.blockBoundaryOnly;
+        if (source.entityTypes.isEmpty()) {
+            this.entityTypes = null;
+        } else {
+            final Set<EntityType<?>> types = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (final String id : source.entityTypes) {
+                final @Nullable ResourceLocation location = ResourceLocation.tryParse(id);
+                if (location == null) {
+                    SpongeCommon.logger().warn("Invalid entity type '{}' in the movement-events configuration, ignoring.", id);
+                    continue;
+                }
+                SpongeCommon.vanillaRegistry(Registries.ENTITY_TYPE).getOptional(location).ifPresentOrElse(types::add,
+                    () -> SpongeCommon.logger().warn("Unknown entity type '{}' in the movement-events configuration, ignoring.", id));
+            }
+            if (types.isEmpty()) {
+                SpongeCommon.logger().warn("None of the entity types in the movement-events configuration could be resolved, "
+                    + "the entity type filter is disabled.");
+                this.entityTypes = null;
+            } else {
+                this.entityTypes = types;
+            }
+        }
+        this.regions = new int[source.regions.size() * 6];
+        int i = 0;
+        for (final MovementEventsCategory.RegionSubCategory region : source.regions) {
+            this.regions[i++] = Math.min(region.minX, region.maxX);
+            this.regions[i++] = Math.min(region.minY, region.maxY);
+            this.regions[i++] = Math.min(region.minZ, region.maxZ);
+            this.regions[i++] = Math.max(region.minX, region.maxX);
+            this.regions[i++] = Math.max(region.minY, region.maxY);
+            this.regions[i++] = Math.max(region.minZ, region.maxZ);
+        }
+    }
+
+    /**
+     * Compiles the given category, reusing the {@code previous} filter if
+     * it was compiled from the very same category instance.
+     *
+     * @param previous The previously compiled filter, if any
+     * @param category The category to compile
+     * @return The compiled filter
+     */
+    public static MoveEntityEventFilter compile(final @Nullable MoveEntityEventFilter previous, final MovementEventsCategory category) {
+        if (previous != null && previous.source == category) {
+            return previous;
+        }
+        return new MoveEntityEventFilter(category);
+    }
+
+    /**
+     * Gets whether the movement the given entity performed during this tick
+     * should throw a natural move event.
+     *
+     * @param entity The entity
+     * @return True if the event should be thrown
+     */
+    public boolean test(final Entity entity) {
+        if (this.entityTypes != null && !this.entityTypes.contains(entity.getType())) {
+            return false;
+        }
+
+        return this.testMovement(entity.xOld, entity.yOld, entity.zOld, entity.getX(), entity.getY(), entity.getZ());
+    }
+
+    boolean testMovement(final double fromX, final double fromY, final double fromZ, final double toX, final double toY, final double toZ) {
+        if (this.blockBoundaryOnly) {
+            if (Mth.floor(fromX) == Mth.floor(toX) && Mth.floor(fromY) == Mth.floor(toY) && Mth.floor(fromZ) == Mth.floor(toZ)) {
+                return false;
+            }
+        } else if (MoveEntityEventFilter.sameGridPoint(fromX, toX) && MoveEntityEventFilter.sameGridPoint(fromY, toY)
+            && MoveEntityEventFilter.sameGridPoint(fromZ, toZ)) {
+            return false;
+        }
+
+        if (this.minimumDistanceSquared > 0) {
+            final double dx = toX - fromX;
+            final double dy = toY - fromY;
+            final double dz = toZ - fromZ;
+            if (dx * dx + dy * dy + dz * dz < this.minimumDistanceSquared) {
+                return false;
+            }
+        }
+
+        if (this.regions.length == 0) {
+            return true;
+        }
+        return this.isInRegion(Mth.floor(fromX), Mth.floor(fromY), Mth.floor(fromZ))
+            || this.isInRegion(Mth.floor(toX), Mth.floor(toY), Mth.floor(toZ));
+    }
+
+    private boolean isInRegion(final int x, final int y, final int z) {
+        final int[] regions = this.regions;
+        for (int i = 0; i < regions.length; i += 6) {
+            if (x >= regions[i] && y >= regions[i + 1] && z >= regions[i + 2]
+                && x <= regions[i + 3] && y <= regions[i + 4] && z <= regions[i + 5]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Floors like the Vector3d#toInt comparison in SpongeCommonEventFactory#callMoveEvent
+    private static boolean sameGridPoint(final double from, final double to) {
+        return Mth.floor(from * MoveEntityEventFilter.MOVEMENT_GRID_POINTS_PER_BLOCK)
+            == Mth.floor(to * MoveEntityEventFilter.MOVEMENT_GRID_POINTS_PER_BLOCK);
+    }
+}
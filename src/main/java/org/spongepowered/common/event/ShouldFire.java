@@ -55,6 +55,10 @@ public final class ShouldFire {
     public static boolean CHANGE_BLOCK_EVENT_PRE = false;
     public static boolean CHANGE_BLOCK_EVENT_POST = false;
 
+    public static boolean CHANGE_INVENTORY_EVENT = false;
+    public static boolean CHANGE_INVENTORY_EVENT_PICKUP = false;
+    public static boolean CHANGE_INVENTORY_EVENT_PICKUP_PRE = false;
+
     public static boolean CLICK_CONTAINER_EVENT = false;
     public static boolean CLICK_CONTAINER_EVENT_DOUBLE = false;
 
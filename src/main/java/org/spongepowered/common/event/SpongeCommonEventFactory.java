@@ -388,6 +388,10 @@ public static void callNaturalMoveEntityEvent(final net.minecraft.world.entity.E
         if (entity.isRemoved()) {
             return;
         }
+        // Check the world's movement filters before creating anything for the event
+        if (entity.level() instanceof ServerLevelBridge levelBridge && !levelBridge.bridge$moveEntityEventFilter().test(entity)) {
+            return;
+        }
 
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(entity);
@@ -67,6 +67,7 @@
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.world.inventory.container.ContainerBridge;
 import org.spongepowered.common.bridge.world.inventory.container.TrackedInventoryBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
@@ -141,16 +142,23 @@ public static boolean callPlayerInventoryPickupEvent(final Player player, final
     }
 
     public static ItemStack callHopperInventoryPickupEvent(final Container inventory, final ItemEntity item, final ItemStack stack) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP_PRE && !ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP) {
+            return HopperBlockEntity.addItem(null, inventory, stack, null);
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(inventory);
 
-            final ItemStackSnapshot snapshot = ItemStackUtil.snapshotOf(stack);
-            final ChangeInventoryEvent.Pickup.Pre event =
-                    SpongeEventFactory.createChangeInventoryEventPickupPre(frame.currentCause(),
-                            Optional.empty(), Collections.singletonList(snapshot), (Inventory) inventory, (Item) item, snapshot);
-            SpongeCommon.post(event);
-            if (event.isCancelled()) {
-                return stack;
+            Optional<List<ItemStackSnapshot>> custom = Optional.empty();
+            if (ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP_PRE) {
+                final ItemStackSnapshot snapshot = ItemStackUtil.snapshotOf(stack);
+                final ChangeInventoryEvent.Pickup.Pre event =
+                        SpongeEventFactory.createChangeInventoryEventPickupPre(frame.currentCause(),
+                                Optional.empty(), Collections.singletonList(snapshot), (Inventory) inventory, (Item) item, snapshot);
+                SpongeCommon.post(event);
+                if (event.isCancelled()) {
+                    return stack;
+                }
+                custom = event.custom();
             }
 
             final int size = inventory.getContainerSize();
@@ -159,13 +167,13 @@ public static ItemStack callHopperInventoryPickupEvent(final Container inventory
                 prevInventory[i] = inventory.getItem(i);
             }
 
-            if (event.custom().isPresent()) {
-                if (event.custom().get().isEmpty()) {
+            if (custom.isPresent()) {
+                if (custom.get().isEmpty()) {
                     return ItemStack.EMPTY;
                 }
 
                 boolean fullTransfer = true;
-                for (final ItemStackSnapshot snap : event.custom().get()) {
+                for (final ItemStackSnapshot snap : custom.get()) {
                     final ItemStack stackToAdd = ItemStackUtil.fromSnapshotToNative(snap);
                     final ItemStack remaining = HopperBlockEntity.addItem(null, inventory, stackToAdd, null);
                     if (!remaining.isEmpty()) {
@@ -195,6 +203,9 @@ public static ItemStack callHopperInventoryPickupEvent(final Container inventory
     }
 
     private static boolean callInventoryPickupEvent(final Container inventory, final ItemStack[] prevInventory) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_PICKUP) {
+            return true;
+        }
         final Inventory spongeInventory = InventoryUtil.toInventory(inventory, null);
         final List<SlotTransaction> trans = InventoryEventFactory.generateTransactions(spongeInventory, inventory, prevInventory);
         if (trans.isEmpty()) {
@@ -56,14 +56,24 @@
 import org.spongepowered.common.event.gen.LoaderClassWriter;
 import org.spongepowered.common.util.generator.GeneratorUtils;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class ClassEventListenerFactory implements AnnotatedEventListener.Factory {
 
     private static final String FILTER = "filter";
     private final FilterFactory filterFactory;
+    // The generated listener and filter classes only depend on the method, so they are shared by every instance of a listener class
+    private final ClassValue<Map<ListenerClassVisitor.DiscoveredMethod, MethodHandle>> constructors = new ClassValue<>() {
+        @Override
+        protected Map<ListenerClassVisitor.DiscoveredMethod, MethodHandle> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     public ClassEventListenerFactory(final FilterFactory factory) {
         this.filterFactory = Objects.requireNonNull(factory, "filterFactory");
@@ -72,11 +82,22 @@ public ClassEventListenerFactory(final FilterFactory factory) {
     @Override
     public AnnotatedEventListener create(final Object handle, final ListenerClassVisitor.DiscoveredMethod method,
                                          final MethodHandles.Lookup handleLookup) throws Throwable {
-        final MethodHandles.Lookup lookup = this.createLookup(method, handleLookup);
-        return (AnnotatedEventListener) lookup.findConstructor(
-            lookup.lookupClass(),
-            MethodType.methodType(void.class, method.declaringClass())
-        ).invoke(handle);
+        // Always check the provided lookup has access, even if the listener class was already generated
+        MethodHandles.privateLookupIn(method.declaringClass(), handleLookup);
+        final Map<ListenerClassVisitor.DiscoveredMethod, MethodHandle> constructors = this.constructors.get(method.declaringClass());
+        MethodHandle constructor = constructors.get(method);
+        if (constructor == null) {
+            final MethodHandles.Lookup lookup = this.createLookup(method, handleLookup);
+            constructor = lookup.findConstructor(
+                lookup.lookupClass(),
+                MethodType.methodType(void.class, method.declaringClass())
+            );
+            final @Nullable MethodHandle existing = constructors.putIfAbsent(method, constructor);
+            if (existing != null) {
+                constructor = existing;
+            }
+        }
+        return (AnnotatedEventListener) constructor.invoke(handle);
     }
 
     MethodHandles.Lookup createLookup(final ListenerClassVisitor.DiscoveredMethod method, final MethodHandles.Lookup handleLookup) throws Exception {
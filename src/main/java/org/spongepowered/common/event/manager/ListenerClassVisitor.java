@@ -44,9 +44,11 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.net.URL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -73,17 +75,65 @@ private ListenerClassVisitor(final Class<?> handle) {
         this.declaringClass = handle;
     }
 
+    /**
+     * Listener methods discovered per class. The bytecode of a class never
+     * changes once loaded, so each class only needs to be read once no matter
+     * how many instances or subclasses of it are registered. Classes loaded
+     * from jars are read through the {@link ListenerIndex} across restarts.
+     */
+    private static final ClassValue<List<DiscoveredMethod>> DISCOVERED_METHODS = new ClassValue<>() {
+        @Override
+        protected List<DiscoveredMethod> computeValue(final Class<?> type) {
+            try {
+                return ListenerClassVisitor.readEventListenerMethods(type);
+            } catch (final IOException e) {
+                // Not cached, a failed lookup is retried on the next registration
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
     static List<DiscoveredMethod> getEventListenerMethods(final Class<?> handle) throws
         IOException,
         NoSuchMethodException {
-        final @Nullable InputStream classStream = handle.getClassLoader().getResourceAsStream(
-            handle.getName().replace(".", "/") + ".class");
-        if (classStream == null) {
+        try {
+            return ListenerClassVisitor.DISCOVERED_METHODS.get(handle);
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static List<DiscoveredMethod> readEventListenerMethods(final Class<?> handle) throws IOException {
+        final @Nullable URL resource = handle.getClassLoader().getResource(handle.getName().replace(".", "/") + ".class");
+        if (resource == null) {
             throw new IOException("Could not find class " + handle.getName());
         }
-        final ClassReader reader = new ClassReader(classStream);
+        final ListenerIndex.@Nullable JarIndex index = ListenerIndex.forResource(resource);
+        if (index != null) {
+            final byte @Nullable [] recording = index.get(handle.getName());
+            if (recording != null) {
+                final ListenerClassVisitor classVisitor = new ListenerClassVisitor(handle);
+                try {
+                    ListenerIndex.replay(recording, classVisitor);
+                    return classVisitor.foundListenerMethods();
+                } catch (final IOException e) {
+                    ListenerClassVisitor.LOGGER.debug("Could not replay the indexed listeners of {}", handle.getName(), e);
+                }
+            }
+        }
+
+        final ClassReader reader;
+        try (final InputStream classStream = resource.openStream()) {
+            reader = new ClassReader(classStream);
+        }
         final ListenerClassVisitor classVisitor = new ListenerClassVisitor(handle);
-        reader.accept(classVisitor, 0);
+        if (index == null) {
+            reader.accept(classVisitor, 0);
+        } else {
+            final ListenerIndex.Recorder recorder = new ListenerIndex.Recorder(classVisitor);
+            reader.accept(recorder, 0);
+            index.put(handle.getName(), recorder.recording());
+        }
         return classVisitor.foundListenerMethods();
     }
 
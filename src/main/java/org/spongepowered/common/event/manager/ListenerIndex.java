@@ -0,0 +1,567 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An on-disk index of the listener methods discovered in classes loaded from
+ * jars, so that a restart replays the recorded visits into a
+ * {@link ListenerClassVisitor} instead of reading and parsing the bytecode of
+ * every listener class again.
+ *
+ * <p>Each jar has its own index file, keyed by the path, size and
+ * modification time of the jar, which is discarded as soon as any of them
+ * changes. Only the visits {@link ListenerClassVisitor} acts on are recorded,
+ * and only for methods annotated with {@link Listener}.</p>
+ */
+public final class ListenerIndex {
+
+    private static final int VERSION = 1;
+
+    private static final byte METHOD = 0;
+    private static final byte LOCAL_VARIABLE = 1;
+    private static final byte ANNOTATION = 2;
+    private static final byte PARAMETER_ANNOTATION = 3;
+    private static final byte VALUE = 4;
+    private static final byte ENUM = 5;
+    private static final byte ARRAY = 6;
+    private static final byte NESTED_ANNOTATION = 7;
+    private static final byte END = 8;
+
+    private static final Map<Path, JarIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the index of the jar the given class file resource is read from.
+     *
+     * @param resource The class file resource
+     * @return The index, or null if the resource is not within a jar on disk
+     */
+    static @Nullable JarIndex forResource(final URL resource) {
+        if (!"jar".equals(resource.getProtocol())) {
+            return null;
+        }
+        final String path = resource.getPath();
+        final int separator = path.indexOf("!/");
+        if (separator == -1) {
+            return null;
+        }
+        final Path jar;
+        try {
+            jar = Path.of(new URI(path.substring(0, separator)));
+        } catch (final URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+            return null;
+        }
+        return ListenerIndex.INDEXES.computeIfAbsent(jar, ListenerIndex::load);
+    }
+
+    /**
+     * Writes every index that gained entries since it was last written. This
+     * happens once the game has loaded and whenever an engine stops, so
+     * listener classes registered while an engine is running are written as
+     * well.
+     */
+    public static synchronized void save() {
+        for (final JarIndex index : ListenerIndex.INDEXES.values()) {
+            if (!index.dirty) {
+                continue;
+            }
+            index.dirty = false;
+            final Path file = ListenerIndex.indexFile(index.jar);
+            final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try {
+                Files.createDirectories(file.getParent());
+                try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    final Map<String, byte[]> classes = new HashMap<>(index.classes);
+                    out.writeInt(ListenerIndex.VERSION);
+                    out.writeUTF(index.jar.toString());
+                    out.writeLong(index.size);
+                    out.writeLong(index.lastModified);
+                    out.writeInt(classes.size());
+                    for (final Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                        out.writeUTF(entry.getKey());
+                        out.writeInt(entry.getValue().length);
+                        out.write(entry.getValue());
+                    }
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException e) {
+                SpongeCommon.logger().warn("Could not write the listener index of {}", index.jar, e);
+            }
+        }
+    }
+
+    private static @Nullable JarIndex load(final Path jar) {
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+        } catch (final IOException e) {
+            return null;
+        }
+        if (!attributes.isRegularFile()) {
+            return null;
+        }
+        final JarIndex index = new JarIndex(jar, attributes.size(), attributes.lastModifiedTime().toMillis());
+        final Path file = ListenerIndex.indexFile(jar);
+        if (!Files.isRegularFile(file)) {
+            return index;
+        }
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != ListenerIndex.VERSION || !in.readUTF().equals(jar.toString())
+                || in.readLong() != index.size || in.readLong() != index.lastModified) {
+                // The jar changed, everything is discovered again
+                index.dirty = true;
+                return index;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final String className = in.readUTF();
+                final byte[] recording = new byte[in.readInt()];
+                in.readFully(recording);
+                index.classes.put(className, recording);
+            }
+        } catch (final IOException e) {
+            SpongeCommon.logger().debug("Discarding the unreadable listener index of {}", jar, e);
+            index.classes.clear();
+            index.dirty = true;
+        }
+        return index;
+    }
+
+    private static Path indexFile(final Path jar) {
+        final UUID id = UUID.nameUUIDFromBytes(jar.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+        return SpongeCommon.gameDirectory().resolve("caches").resolve("sponge").resolve("listeners").resolve(id + ".bin");
+    }
+
+    /**
+     * Replays a recording made by a {@link Recorder} into the given visitor.
+     *
+     * @param recording The recording
+     * @param visitor The visitor
+     * @throws IOException If the recording is malformed
+     */
+    static void replay(final byte[] recording, final ClassVisitor visitor) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(recording));
+        while (in.available() > 0) {
+            if (in.readByte() != ListenerIndex.METHOD) {
+                throw new IOException("Malformed listener index entry");
+            }
+            final int access = in.readInt();
+            final String name = in.readUTF();
+            final String descriptor = in.readUTF();
+            final @Nullable String signature = ListenerIndex.readNullableString(in);
+            final MethodVisitor method = visitor.visitMethod(access, name, descriptor, signature, null);
+            for (byte operation = in.readByte(); operation != ListenerIndex.END; operation = in.readByte()) {
+                switch (operation) {
+                    case ListenerIndex.LOCAL_VARIABLE -> {
+                        final String localName = in.readUTF();
+                        final String localDescriptor = in.readUTF();
+                        final @Nullable String localSignature = ListenerIndex.readNullableString(in);
+                        method.visitLocalVariable(localName, localDescriptor, localSignature, null, null, in.readInt());
+                    }
+                    case ListenerIndex.ANNOTATION -> {
+                        final String annotation = in.readUTF();
+                        ListenerIndex.replayAnnotation(in, method.visitAnnotation(annotation, in.readBoolean()));
+                    }
+                    case ListenerIndex.PARAMETER_ANNOTATION -> {
+                        final int parameter = in.readInt();
+                        final String annotation = in.readUTF();
+                        ListenerIndex.replayAnnotation(in, method.visitParameterAnnotation(parameter, annotation, in.readBoolean()));
+                    }
+                    default -> throw new IOException("Malformed listener index entry");
+                }
+            }
+            method.visitEnd();
+        }
+    }
+
+    private static void replayAnnotation(final DataInputStream in, final @Nullable AnnotationVisitor visitor) throws IOException {
+        for (byte operation = in.readByte(); operation != ListenerIndex.END; operation = in.readByte()) {
+            final @Nullable String name = ListenerIndex.readNullableString(in);
+            switch (operation) {
+                case ListenerIndex.VALUE -> {
+                    final Object value = ListenerIndex.readValue(in);
+                    if (visitor != null) {
+                        visitor.visit(name, value);
+                    }
+                }
+                case ListenerIndex.ENUM -> {
+                    final String descriptor = in.readUTF();
+                    final String value = in.readUTF();
+                    if (visitor != null) {
+                        visitor.visitEnum(name, descriptor, value);
+                    }
+                }
+                case ListenerIndex.ARRAY -> ListenerIndex.replayAnnotation(in, visitor == null ? null : visitor.visitArray(name));
+                case ListenerIndex.NESTED_ANNOTATION -> {
+                    final String descriptor = in.readUTF();
+                    ListenerIndex.replayAnnotation(in, visitor == null ? null : visitor.visitAnnotation(name, descriptor));
+                }
+                default -> throw new IOException("Malformed listener index entry");
+            }
+        }
+        if (visitor != null) {
+            visitor.visitEnd();
+        }
+    }
+
+    private static @Nullable String readNullableString(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableString(final DataOutputStream out, final @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static Object readValue(final DataInputStream in) throws IOException {
+        final char tag = (char) in.readByte();
+        return switch (tag) {
+            case 'Z' -> in.readBoolean();
+            case 'B' -> in.readByte();
+            case 'C' -> in.readChar();
+            case 'S' -> in.readShort();
+            case 'I' -> in.readInt();
+            case 'J' -> in.readLong();
+            case 'F' -> in.readFloat();
+            case 'D' -> in.readDouble();
+            case 's' -> in.readUTF();
+            case 'c' -> Type.getType(in.readUTF());
+            case '[' -> {
+                final Class<?> componentType = ListenerIndex.primitiveClass(in.readByte());
+                final int length = in.readInt();
+                final Object array = Array.newInstance(componentType, length);
+                for (int i = 0; i < length; i++) {
+                    Array.set(array, i, ListenerIndex.readValue(in));
+                }
+                yield array;
+            }
+            default -> throw new IOException("Unknown annotation value tag " + tag);
+        };
+    }
+
+    private static Class<?> primitiveClass(final byte tag) throws IOException {
+        return switch ((char) tag) {
+            case 'Z' -> boolean.class;
+            case 'B' -> byte.class;
+            case 'C' -> char.class;
+            case 'S' -> short.class;
+            case 'I' -> int.class;
+            case 'J' -> long.class;
+            case 'F' -> float.class;
+            case 'D' -> double.class;
+            default -> throw new IOException("Unknown annotation array type " + (char) tag);
+        };
+    }
+
+    private static void writeValue(final DataOutputStream out, final Object value) throws IOException {
+        if (value instanceof final Boolean bool) {
+            out.writeByte('Z');
+            out.writeBoolean(bool);
+        } else if (value instanceof final Byte b) {
+            out.writeByte('B');
+            out.writeByte(b);
+        } else if (value instanceof final Character c) {
+            out.writeByte('C');
+            out.writeChar(c);
+        } else if (value instanceof final Short s) {
+            out.writeByte('S');
+            out.writeShort(s);
+        } else if (value instanceof final Integer i) {
+            out.writeByte('I');
+            out.writeInt(i);
+        } else if (value instanceof final Long l) {
+            out.writeByte('J');
+            out.writeLong(l);
+        } else if (value instanceof final Float f) {
+            out.writeByte('F');
+            out.writeFloat(f);
+        } else if (value instanceof final Double d) {
+            out.writeByte('D');
+            out.writeDouble(d);
+        } else if (value instanceof final String s) {
+            out.writeByte('s');
+            out.writeUTF(s);
+        } else if (value instanceof final Type t) {
+            out.writeByte('c');
+            out.writeUTF(t.getDescriptor());
+        } else if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+            // Only arrays of primitives are passed as a single value
+            out.writeByte('[');
+            out.writeByte(Type.getDescriptor(value.getClass().getComponentType()).charAt(0));
+            final int length = Array.getLength(value);
+            out.writeInt(length);
+            for (int i = 0; i < length; i++) {
+                ListenerIndex.writeValue(out, Array.get(value, i));
+            }
+        } else {
+            throw new IOException("Unsupported annotation value " + value.getClass().getName());
+        }
+    }
+
+    static final class JarIndex {
+
+        final Path jar;
+        final long size;
+        final long lastModified;
+        final Map<String, byte[]> classes = new ConcurrentHashMap<>();
+        volatile boolean dirty;
+
+        JarIndex(final Path jar, final long size, final long lastModified) {
+            this.jar = jar;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        byte @Nullable [] get(final String className) {
+            return this.classes.get(className);
+        }
+
+        void put(final String className, final byte @Nullable [] recording) {
+            if (recording != null) {
+                this.classes.put(className, recording);
+                this.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Records the visits of the listener methods of a class while passing
+     * them on to the visitor discovering them.
+     */
+    static final class Recorder extends ClassVisitor {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        boolean failed;
+
+        Recorder(final ClassVisitor delegate) {
+            super(ListenerClassVisitor.ASM_VERSION, delegate);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+            final int access, final String name, final String descriptor, final @Nullable String signature, final String @Nullable [] exceptions
+        ) {
+            return new RecordingMethodVisitor(this, super.visitMethod(access, name, descriptor, signature, exceptions),
+                access, name, descriptor, signature);
+        }
+
+        /**
+         * Gets the recording, if every visit could be recorded.
+         *
+         * @return The recording, or null
+         */
+        byte @Nullable [] recording() {
+            return this.failed ? null : this.bytes.toByteArray();
+        }
+    }
+
+    private static final class RecordingMethodVisitor extends MethodVisitor {
+
+        private final Recorder recorder;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(this.bytes);
+        private final int parameterCount;
+        private boolean listener;
+
+        RecordingMethodVisitor(final Recorder recorder, final MethodVisitor delegate, final int access, final String name,
+            final String descriptor, final @Nullable String signature
+        ) {
+            super(ListenerClassVisitor.ASM_VERSION, delegate);
+            this.recorder = recorder;
+            this.parameterCount = Type.getArgumentTypes(descriptor).length;
+            this.record(() -> {
+                this.out.writeByte(ListenerIndex.METHOD);
+                this.out.writeInt(access);
+                this.out.writeUTF(name);
+                this.out.writeUTF(descriptor);
+                ListenerIndex.writeNullableString(this.out, signature);
+            });
+        }
+
+        @Override
+        public void visitLocalVariable(
+            final String name, final String descriptor, final @Nullable String signature, final Label start, final Label end, final int index
+        ) {
+            // Matches the local variables ListenerMethodVisitor looks at
+            if (index != 0 && index <= this.parameterCount) {
+                this.record(() -> {
+                    this.out.writeByte(ListenerIndex.LOCAL_VARIABLE);
+                    this.out.writeUTF(name);
+                    this.out.writeUTF(descriptor);
+                    ListenerIndex.writeNullableString(this.out, signature);
+                    this.out.writeInt(index);
+                });
+            }
+            super.visitLocalVariable(name, descriptor, signature, start, end, index);
+        }
+
+        @Override
+        public @Nullable AnnotationVisitor visitAnnotation(final String descriptor, final boolean visible) {
+            if (ListenerClassVisitor.LISTENER_DESCRIPTOR.equals(descriptor)) {
+                this.listener = true;
+            }
+            this.record(() -> {
+                this.out.writeByte(ListenerIndex.ANNOTATION);
+                this.out.writeUTF(descriptor);
+                this.out.writeBoolean(visible);
+            });
+            return this.recordAnnotation(super.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public @Nullable AnnotationVisitor visitParameterAnnotation(final int parameter, final String descriptor, final boolean visible) {
+            this.record(() -> {
+                this.out.writeByte(ListenerIndex.PARAMETER_ANNOTATION);
+                this.out.writeInt(parameter);
+                this.out.writeUTF(descriptor);
+                this.out.writeBoolean(visible);
+            });
+            return this.recordAnnotation(super.visitParameterAnnotation(parameter, descriptor, visible));
+        }
+
+        @Override
+        public void visitEnd() {
+            this.record(() -> this.out.writeByte(ListenerIndex.END));
+            if (this.listener) {
+                this.recorder.bytes.writeBytes(this.bytes.toByteArray());
+            }
+            super.visitEnd();
+        }
+
+        @Nullable AnnotationVisitor recordAnnotation(final @Nullable AnnotationVisitor delegate) {
+            if (delegate == null) {
+                // Nothing further is visited
+                this.record(() -> this.out.writeByte(ListenerIndex.END));
+                return null;
+            }
+            return new RecordingAnnotationVisitor(this, delegate);
+        }
+
+        void record(final Recording recording) {
+            try {
+                recording.write();
+            } catch (final IOException e) {
+                this.recorder.failed = true;
+            }
+        }
+    }
+
+    private static final class RecordingAnnotationVisitor extends AnnotationVisitor {
+
+        private final RecordingMethodVisitor method;
+
+        RecordingAnnotationVisitor(final RecordingMethodVisitor method, final AnnotationVisitor delegate) {
+            super(ListenerClassVisitor.ASM_VERSION, delegate);
+            this.method = method;
+        }
+
+        @Override
+        public void visit(final @Nullable String name, final Object value) {
+            this.method.record(() -> {
+                this.method.out.writeByte(ListenerIndex.VALUE);
+                ListenerIndex.writeNullableString(this.method.out, name);
+                ListenerIndex.writeValue(this.method.out, value);
+            });
+            super.visit(name, value);
+        }
+
+        @Override
+        public void visitEnum(final @Nullable String name, final String descriptor, final String value) {
+            this.method.record(() -> {
+                this.method.out.writeByte(ListenerIndex.ENUM);
+                ListenerIndex.writeNullableString(this.method.out, name);
+                this.method.out.writeUTF(descriptor);
+                this.method.out.writeUTF(value);
+            });
+            super.visitEnum(name, descriptor, value);
+        }
+
+        @Override
+        public @Nullable AnnotationVisitor visitArray(final @Nullable String name) {
+            this.method.record(() -> {
+                this.method.out.writeByte(ListenerIndex.ARRAY);
+                ListenerIndex.writeNullableString(this.method.out, name);
+            });
+            return this.method.recordAnnotation(super.visitArray(name));
+        }
+
+        @Override
+        public @Nullable AnnotationVisitor visitAnnotation(final @Nullable String name, final String descriptor) {
+            this.method.record(() -> {
+                this.method.out.writeByte(ListenerIndex.NESTED_ANNOTATION);
+                ListenerIndex.writeNullableString(this.method.out, name);
+                this.method.out.writeUTF(descriptor);
+            });
+            return this.method.recordAnnotation(super.visitAnnotation(name, descriptor));
+        }
+
+        @Override
+        public void visitEnd() {
+            this.method.record(() -> this.method.out.writeByte(ListenerIndex.END));
+            super.visitEnd();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Recording {
+
+        void write() throws IOException;
+    }
+
+    private ListenerIndex() {
+    }
+}
@@ -52,6 +52,7 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.EventListenerPhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.util.StartupProfiler;
 import org.spongepowered.common.util.TypeTokenUtil;
 import org.spongepowered.configurate.util.Types;
 import org.spongepowered.plugin.PluginContainer;
@@ -90,6 +91,7 @@ public abstract class SpongeEventManager implements EventManager {
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
     private final Set<Object> registeredListeners;
+    private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory(FilterGenerator::create);
 
     public SpongeEventManager() {
         this.lock = new Object();
@@ -249,8 +251,6 @@ private void registerListener(final PluginContainer plugin, final Object listene
             }
         }
 
-        final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory(FilterGenerator::create);
-
         try {
             final List<ListenerClassVisitor.DiscoveredMethod> methods = ListenerClassVisitor.getEventListenerMethods(handle);
             for (final ListenerClassVisitor.DiscoveredMethod method : methods) {
@@ -260,7 +260,7 @@ private void registerListener(final PluginContainer plugin, final Object listene
                     final Type eventType = method.parameterTypes()[0].genericType();
                     final AnnotatedEventListener handler;
                     try {
-                        handler = handlerFactory.create(listenerObject, method, lookup);
+                        handler = this.handlerFactory.create(listenerObject, method, lookup);
                     } catch (final Throwable thr) {
                         SpongeCommon.logger().error("Failed to create handler for {} on {}", method, handle, thr);
                         continue;
@@ -402,7 +402,16 @@ protected final boolean post(final Event event, final List<RegisteredListener<?>
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
-                handler.handle(event);
+                if (StartupProfiler.ENABLED && StartupProfiler.isActive()) {
+                    final long start = System.nanoTime();
+                    try {
+                        handler.handle(event);
+                    } finally {
+                        StartupProfiler.recordListener(handler.getPlugin(), event.getClass(), System.nanoTime() - start);
+                    }
+                } else {
+                    handler.handle(event);
+                }
             } catch (final Throwable e) {
                 SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().metadata().id(), e);
             }
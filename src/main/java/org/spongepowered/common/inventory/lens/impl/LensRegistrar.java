@@ -25,6 +25,7 @@
 package org.spongepowered.common.inventory.lens.impl;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.world.CompoundContainer;
 import net.minecraft.world.entity.npc.AbstractVillager;
@@ -72,6 +73,8 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
@@ -80,9 +83,11 @@
 public class LensRegistrar {
 
     // Class of Inventory -> Size -> Lens
-    private static Map<Class<?>, Int2ObjectMap<Lens>> lenses = new HashMap<>();
+    private static final Map<Class<?>, Int2ObjectMap<Lens>> lenses = new ConcurrentHashMap<>();
 
-    private static Map<Class<?>, LensFactory> lensFactories = new HashMap<>();
+    private static final Map<Class<?>, LensFactory> lensFactories = new ConcurrentHashMap<>();
+    // Every lens handed out from the cache above, shared by all inventories of the same class and size
+    private static final Set<Lens> registeredLenses = ConcurrentHashMap.newKeySet();
 
 
     static {
@@ -151,11 +156,34 @@ public static LensFactory restricted(LensFactory original, Predicate<Integer> si
     }
 
     public static Lens getLens(Object inventory, SlotLensProvider slotLensProvider, int size) {
-        return LensRegistrar.getLenses(inventory.getClass()).computeIfAbsent(size, k -> LensRegistrar.generateLens(inventory, size, slotLensProvider));
+        final Int2ObjectMap<Lens> lenses = LensRegistrar.getLenses(inventory.getClass());
+        final Lens cached = lenses.get(size);
+        if (cached != null) {
+            return cached;
+        }
+        // Generated outside of the lock, lens generation may look up the lenses of nested inventories
+        final Lens lens = LensRegistrar.generateLens(inventory, size, slotLensProvider);
+        final Lens previous = lenses.putIfAbsent(size, lens);
+        if (previous != null) {
+            return previous;
+        }
+        LensRegistrar.registeredLenses.add(lens);
+        return lens;
+    }
+
+    /**
+     * Gets whether the given lens was created by this registrar and is
+     * therefore shared by every inventory of the same type and size.
+     *
+     * @param lens The lens
+     * @return True if the lens is registered
+     */
+    public static boolean isRegistered(final Lens lens) {
+        return LensRegistrar.registeredLenses.contains(lens);
     }
 
     private static Int2ObjectMap<Lens> getLenses(Class<?> inventory) {
-        return LensRegistrar.lenses.computeIfAbsent(inventory, k -> new Int2ObjectOpenHashMap<>());
+        return LensRegistrar.lenses.computeIfAbsent(inventory, k -> Int2ObjectMaps.synchronize(new Int2ObjectOpenHashMap<>()));
     }
 
     private interface LensFactory {
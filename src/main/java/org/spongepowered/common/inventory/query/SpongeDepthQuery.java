@@ -24,14 +24,18 @@
  */
 package org.spongepowered.common.inventory.query;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.item.inventory.Inventory;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
+import org.spongepowered.common.inventory.lens.impl.LensRegistrar;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Checks immediate child for matches first.
@@ -39,8 +43,24 @@
  */
 public abstract class SpongeDepthQuery extends SpongeQuery {
 
+    // Registered root Lens -> Plan Key -> Search result
+    private static final Map<Lens, Map<Object, Map<Lens, Integer>>> PLANS = new ConcurrentHashMap<>();
+
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Returns a key identifying this query when its result only depends on
+     * the shape of the lens tree and never on the inventory contents. Queries
+     * that return a key have their search result cached per root lens and
+     * shared with every equal query, as long as the root lens is shared
+     * through the {@link LensRegistrar}.
+     *
+     * @return The plan key, or null if this query cannot be cached
+     */
+    protected @Nullable Object planKey() {
+        return null;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
@@ -49,7 +69,17 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
             return lens.getAdapter(fabric, inventory);
         }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.search(inventory, lens)));
+    }
+
+    private Map<Lens, Integer> search(final Inventory inventory, final Lens lens) {
+        final @Nullable Object planKey = this.planKey();
+        // Lenses of custom inventories and query results are never looked up again
+        if (planKey == null || !LensRegistrar.isRegistered(lens)) {
+            return this.depthFirstSearch(inventory, lens);
+        }
+        return SpongeDepthQuery.PLANS.computeIfAbsent(lens, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(planKey, k -> Collections.unmodifiableMap(this.depthFirstSearch(inventory, lens)));
     }
 
     private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
@@ -66,9 +66,7 @@ protected Map<Lens, Integer> reduce(Fabric fabric, Lens lens, Map<Lens, Integer>
         List<Lens> lensSlots = lens.getChildren();
         if (lensSlots.size() == matches.size() && matches.keySet().containsAll(lensSlots) ) {
             // return parent lens instead of constructing a new for the query result
-            matches.clear();
-            matches.put(lens, 0);
-            return matches;
+            return Collections.singletonMap(lens, 0);
         }
 
         // Remove duplicate slot-lenses
@@ -95,15 +93,20 @@ protected Map<Lens, Integer> reduce(Fabric fabric, Lens lens, Map<Lens, Integer>
                 lenses.remove(entry.getKey());
             }
         }
+        if (toRemove.isEmpty()) {
+            // Nothing to deduplicate, the matches may be shared so they are never modified
+            return matches;
+        }
         // remove all single-slot lenses
-        matches.keySet().removeAll(toRemove.keySet());
+        final Map<Lens, Integer> reduced = new LinkedHashMap<>(matches);
+        reduced.keySet().removeAll(toRemove.keySet());
         for (Map.Entry<SlotLens, Map<Key<?>, Object>> entry : lenses.entrySet()) {
             final Map<Key<?>, Object> data = entry.getValue();
             if (data.isEmpty()) { // add back slot-lenses
-                matches.put(entry.getKey(), toRemove.getOrDefault(entry.getKey(), 0));
+                reduced.put(entry.getKey(), toRemove.getOrDefault(entry.getKey(), 0));
             } else { // with data if found
                 final QueriedSlotLens delegatingSlotLens = new QueriedSlotLens(entry.getKey(), data);
-                matches.put(delegatingSlotLens, toRemove.getOrDefault(entry.getKey(), 0));
+                reduced.put(delegatingSlotLens, toRemove.getOrDefault(entry.getKey(), 0));
             }
         }
 
@@ -111,7 +114,7 @@ protected Map<Lens, Integer> reduce(Fabric fabric, Lens lens, Map<Lens, Integer>
         // TODO maybe? Reduce when all matches are slots of this lens
         // TODO maybe? Reduce when subset of matches are child-lens of this lens
 
-        return matches;
+        return reduced;
     }
 
     protected Inventory toResult(Inventory inventory, Fabric fabric, Map<Lens, Integer> matches) {
@@ -28,6 +28,8 @@
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.query.SpongeDepthQuery;
 
+import java.util.List;
+
 public final class TypeQuery extends SpongeDepthQuery {
 
     private final Class<?> targetType;
@@ -41,4 +43,9 @@ public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         return this.targetType.isAssignableFrom(lens.getAdapterType());
     }
 
+    @Override
+    protected Object planKey() {
+        return List.of(TypeQuery.class, this.targetType);
+    }
+
 }
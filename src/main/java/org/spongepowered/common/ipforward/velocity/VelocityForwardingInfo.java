@@ -47,6 +47,7 @@
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.network.ConnectionBridge;
 import org.spongepowered.common.bridge.network.ServerLoginPacketListenerImplBridge;
+import org.spongepowered.common.network.channel.ChannelBuffers;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -60,7 +61,10 @@
 
 public class VelocityForwardingInfo {
     private static final int SUPPORTED_FORWARDING_VERSION = 1;
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
     private static final Logger LOGGER = LogManager.getLogger();
+    // Logins are verified on the netty workers, each keeps a Mac keyed with the current secret
+    private static final ThreadLocal<KeyedMac> MAC = new ThreadLocal<>();
 
     private static class VelocityChannel {
 
@@ -77,6 +81,7 @@ private static class VelocityChannel {
 
     public static void sendQuery(final ServerLoginPacketListenerImpl mcConn) {
         final EngineConnection conn = ((ConnectionBridge) ((ServerLoginPacketListenerImplBridge) mcConn).bridge$getConnection()).bridge$getEngineConnection();
+        final Connection connection = ((ServerLoginPacketListenerImplAccessor) mcConn).accessor$connection();
         VelocityChannel.CHANNEL
             .sendTo(conn, cbuf -> {})
             .whenComplete((response, error) -> {
@@ -87,16 +92,19 @@ public static void sendQuery(final ServerLoginPacketListenerImpl mcConn) {
                     return;
                 }
 
-                if (!VelocityForwardingInfo.checkIntegrity(response)) {
-                    conn.close(Component.text("Unable to verify player details. Is your forwarding secret correct?"));
-                    return;
-                }
-
-                final Connection connection = ((ServerLoginPacketListenerImplAccessor) mcConn).accessor$connection();
-                ((ConnectionAccessor) connection).accessor$address(new InetSocketAddress(VelocityForwardingInfo.readAddress(response),
-                        ((InetSocketAddress) connection.getRemoteAddress()).getPort()));
-
-                ((ServerLoginPacketListenerImplAccessor) mcConn).invoker$startClientVerification(VelocityForwardingInfo.createProfile(response));
+                // The response is released once we return, verify a copy on the connection's event loop
+                // rather than the main thread, like vanilla handles the rest of the login
+                final ChannelBuf payload = ChannelBuffers.wrap(((ByteBuf) response).copy());
+                ((ConnectionAccessor) connection).accessor$channel().eventLoop().execute(() -> {
+                    try {
+                        VelocityForwardingInfo.processResponse(mcConn, conn, connection, payload);
+                    } catch (final Exception e) {
+                        VelocityForwardingInfo.LOGGER.error("Failed to process velocity forwarding info", e);
+                        conn.close(Component.text("Invalid forwarding information received!"));
+                    } finally {
+                        ChannelBuffers.release(payload);
+                    }
+                });
         }).exceptionally(err -> {
             if (!(err instanceof NoResponseException)) { // Handled above
                 VelocityForwardingInfo.LOGGER.error("Failed to process velocity forwarding info", err);
@@ -106,20 +114,27 @@ public static void sendQuery(final ServerLoginPacketListenerImpl mcConn) {
         });
     }
 
+    private static void processResponse(final ServerLoginPacketListenerImpl mcConn, final EngineConnection conn, final Connection connection,
+            final ChannelBuf response) {
+        if (!VelocityForwardingInfo.checkIntegrity(response)) {
+            conn.close(Component.text("Unable to verify player details. Is your forwarding secret correct?"));
+            return;
+        }
+
+        ((ConnectionAccessor) connection).accessor$address(new InetSocketAddress(VelocityForwardingInfo.readAddress(response),
+                ((InetSocketAddress) connection.getRemoteAddress()).getPort()));
+
+        ((ServerLoginPacketListenerImplAccessor) mcConn).invoker$startClientVerification(VelocityForwardingInfo.createProfile(response));
+    }
+
     public static boolean checkIntegrity(final ChannelBuf buf) {
         final byte[] signature = buf.readBytes(32);
-        final byte[] data = new byte[buf.available()];
-        ((ByteBuf) buf).getBytes(buf.readerIndex(), data); // TODO: figure out a ChannelBuf method
 
-        try {
-            final Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(SpongeConfigs.getCommon().get().ipForwarding.secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
-            final byte[] mySignature = mac.doFinal(data);
-            if (!MessageDigest.isEqual(signature, mySignature)) {
-                return false;
-            }
-        } catch (final InvalidKeyException | NoSuchAlgorithmException e) {
-            throw new AssertionError(e);
+        final Mac mac = VelocityForwardingInfo.mac();
+        mac.update(((ByteBuf) buf).nioBuffer(buf.readerIndex(), buf.available())); // TODO: figure out a ChannelBuf method
+        final byte[] mySignature = mac.doFinal();
+        if (!MessageDigest.isEqual(signature, mySignature)) {
+            return false;
         }
 
         int version = buf.readVarInt();
@@ -130,6 +145,22 @@ public static boolean checkIntegrity(final ChannelBuf buf) {
         return true;
     }
 
+    private static Mac mac() {
+        final String secret = SpongeConfigs.getCommon().get().ipForwarding.secret;
+        final KeyedMac cached = VelocityForwardingInfo.MAC.get();
+        if (cached != null && cached.secret.equals(secret)) {
+            return cached.mac;
+        }
+        try {
+            final Mac mac = Mac.getInstance(VelocityForwardingInfo.SIGNATURE_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), VelocityForwardingInfo.SIGNATURE_ALGORITHM));
+            VelocityForwardingInfo.MAC.set(new KeyedMac(secret, mac));
+            return mac;
+        } catch (final InvalidKeyException | NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     public static InetAddress readAddress(final ChannelBuf buf) {
         return InetAddresses.forString(buf.readString());
     }
@@ -149,4 +180,7 @@ private static void readProperties(final ChannelBuf buf, final GameProfile profi
             profile.getProperties().put(name, new Property(name, value, signature));
         }
     }
+
+    private record KeyedMac(String secret, Mac mac) {
+    }
 }
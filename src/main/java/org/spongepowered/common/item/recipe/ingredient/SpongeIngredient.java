@@ -32,6 +32,7 @@
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import org.apache.commons.lang3.NotImplementedException;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.item.inventory.ItemStackLike;
 import org.spongepowered.common.SpongeCommon;
@@ -39,6 +40,7 @@
 
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -105,6 +107,7 @@ public class SpongeIngredient extends Ingredient {
     });
     public final String type;
     public final String predicateId;
+    private volatile @Nullable BitSet vanillaItems;
 
     record SpongeRawIngredient(String type, List<ItemStack> stacks, Optional<String> predicateId) {
 
@@ -135,17 +138,33 @@ public boolean test(final ItemStack testStack) {
                 if (((SpongeItemList) acceptedItem).test(testStack)) {
                     return true;
                 }
-            } else {
-                // TODO caching (relevant for TagList)
-                for (final ItemStack stack : acceptedItem.getItems()) {
-                    if (stack.getItem() == testStack.getItem()) {
-                        return true;
+            }
+        }
+
+        return this.vanillaItems().get(BuiltInRegistries.ITEM.getId(testStack.getItem()));
+    }
+
+    /**
+     * Gets the items accepted by the vanilla values of this ingredient,
+     * indexed by their registry id. Tag values are only resolved once, as
+     * ingredients are recreated whenever recipes and tags are reloaded.
+     *
+     * @return The accepted item ids
+     */
+    private BitSet vanillaItems() {
+        BitSet items = this.vanillaItems;
+        if (items == null) {
+            items = new BitSet();
+            for (final Value acceptedItem : this.values) {
+                if (!(acceptedItem instanceof SpongeItemList)) {
+                    for (final ItemStack stack : acceptedItem.getItems()) {
+                        items.set(BuiltInRegistries.ITEM.getId(stack.getItem()));
                     }
                 }
             }
+            this.vanillaItems = items;
         }
-
-        return false;
+        return items;
     }
 
     public static SpongeIngredient spongeFromStacks(net.minecraft.world.item.ItemStack... stacks) {
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.network.channel;
 
+import com.google.common.collect.MapMaker;
 import net.minecraft.network.Connection;
 import net.minecraft.network.PacketSendListener;
 import net.minecraft.network.protocol.Packet;
@@ -32,9 +33,15 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.EngineConnectionSide;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.network.SpongeEngineConnection;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
@@ -59,18 +66,68 @@ public static void sendTo(final EngineConnection connection, final Packet<?> pac
         });
     }
 
+    private static final Map<BlockableEventLoop<?>, CompletionQueue> COMPLETION_QUEUES = new MapMaker().weakKeys().makeMap();
+
     public static final class SpongePacketSendListener implements PacketSendListener {
-        private final BlockableEventLoop<?> executor;
+        private final CompletionQueue completions;
         private final Consumer<@Nullable  Throwable> listener;
 
         public SpongePacketSendListener(final EngineConnectionSide<? extends EngineConnection> side, final Consumer<@Nullable Throwable> listener) {
-            this.executor = (BlockableEventLoop<?>) (side == EngineConnectionSide.CLIENT ? Sponge.client() : Sponge.server());
+            final BlockableEventLoop<?> executor = (BlockableEventLoop<?>) (side == EngineConnectionSide.CLIENT ? Sponge.client() : Sponge.server());
+            this.completions = PacketSender.COMPLETION_QUEUES.computeIfAbsent(executor, CompletionQueue::new);
             this.listener = listener;
         }
 
         public void accept(final @Nullable Throwable throwable) {
-            this.executor.execute(() -> this.listener.accept(throwable));
+            this.completions.submit(this.listener, throwable);
+        }
+    }
+
+    /**
+     * Collects send completions from the network threads so that all of the
+     * completions which arrive between two runs of the event loop are handled
+     * by a single task, rather than scheduling one task per sent packet.
+     */
+    private static final class CompletionQueue {
+
+        // Weak, the queue is the value of a weak keyed map and must not keep
+        // its own event loop (and with it a stopped integrated server) alive
+        private final WeakReference<BlockableEventLoop<?>> executor;
+        private final Queue<Completion> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        CompletionQueue(final BlockableEventLoop<?> executor) {
+            this.executor = new WeakReference<>(executor);
+        }
+
+        void submit(final Consumer<@Nullable Throwable> listener, final @Nullable Throwable throwable) {
+            this.pending.add(new Completion(listener, throwable));
+            if (this.scheduled.compareAndSet(false, true)) {
+                final @Nullable BlockableEventLoop<?> executor = this.executor.get();
+                if (executor == null) {
+                    this.pending.clear();
+                    return;
+                }
+                executor.execute(this::drain);
+            }
         }
+
+        private void drain() {
+            // Reset first, anything submitted while draining will either be
+            // picked up by this loop or schedule a new drain
+            this.scheduled.set(false);
+            Completion completion;
+            while ((completion = this.pending.poll()) != null) {
+                try {
+                    completion.listener.accept(completion.throwable);
+                } catch (final Throwable t) {
+                    SpongeCommon.logger().error("Exception while handling a packet send completion", t);
+                }
+            }
+        }
+    }
+
+    private record Completion(Consumer<@Nullable Throwable> listener, @Nullable Throwable throwable) {
     }
 
     private PacketSender() {
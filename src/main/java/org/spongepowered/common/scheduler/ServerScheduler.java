@@ -24,28 +24,102 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.Sponge;
+import net.minecraft.server.level.ServerPlayer;
+import org.spongepowered.common.bridge.server.ServerScoreboardBridge;
 import org.spongepowered.common.bridge.world.entity.player.PlayerInventoryBridge;
+import org.spongepowered.common.entity.living.human.HumanPairingQueue;
+import org.spongepowered.common.entity.player.tab.SpongeTabList;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.tick.EntityTickContext;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class ServerScheduler extends SyncScheduler {
 
+    // Players whose inventory changed since the last tick, inventories can be changed from any thread
+    private final Set<ServerPlayer> dirtyInventories = ConcurrentHashMap.newKeySet();
+    // Scoreboards with score changes waiting to be sent
+    private final Set<ServerScoreboardBridge> dirtyScoreboards = ConcurrentHashMap.newKeySet();
+    // Tab lists with entry changes waiting to be sent
+    private final Set<SpongeTabList> dirtyTabLists = ConcurrentHashMap.newKeySet();
+    // Humans that started or stopped being tracked by players, flushed after entity tracking
+    private final HumanPairingQueue humanPairings = new HumanPairingQueue();
+
     public ServerScheduler() {
         super("S");
     }
 
+    /**
+     * Queues the player's inventory to be checked for changes at the end of
+     * the next scheduler tick.
+     *
+     * @param player The player
+     */
+    public void markInventoryDirty(final ServerPlayer player) {
+        this.dirtyInventories.add(player);
+    }
+
+    /**
+     * Queues the scoreboard to send its pending score changes at the end of
+     * the next scheduler tick.
+     *
+     * @param scoreboard The scoreboard
+     */
+    public void markScoreboardDirty(final ServerScoreboardBridge scoreboard) {
+        this.dirtyScoreboards.add(scoreboard);
+    }
+
+    /**
+     * Queues the tab list to send its pending entry changes at the end of
+     * the next scheduler tick.
+     *
+     * @param tabList The tab list
+     */
+    public void markTabListDirty(final SpongeTabList tabList) {
+        this.dirtyTabLists.add(tabList);
+    }
+
+    public HumanPairingQueue humanPairings() {
+        return this.humanPairings;
+    }
+
     @Override
     public void tick() {
         super.tick();
 
-        Sponge.server().streamOnlinePlayers().forEach(player -> {
+        if (!this.dirtyTabLists.isEmpty()) {
+            for (final Iterator<SpongeTabList> iterator = this.dirtyTabLists.iterator(); iterator.hasNext(); ) {
+                final SpongeTabList tabList = iterator.next();
+                iterator.remove();
+                tabList.flushUpdates();
+            }
+        }
+
+        if (!this.dirtyScoreboards.isEmpty()) {
+            for (final Iterator<ServerScoreboardBridge> iterator = this.dirtyScoreboards.iterator(); iterator.hasNext(); ) {
+                final ServerScoreboardBridge scoreboard = iterator.next();
+                iterator.remove();
+                scoreboard.bridge$flushScoreUpdates();
+            }
+        }
+
+        if (this.dirtyInventories.isEmpty()) {
+            return;
+        }
+        for (final Iterator<ServerPlayer> iterator = this.dirtyInventories.iterator(); iterator.hasNext(); ) {
+            final ServerPlayer player = iterator.next();
+            iterator.remove();
+            if (player.hasDisconnected() || player.isRemoved()) {
+                continue;
+            }
             try (final EntityTickContext context = TickPhase.Tick.ENTITY.createPhaseContext(PhaseTracker.SERVER).source(player)) {
                 context.buildAndSwitch();
                 // Detect Changes on PlayerInventories marked as dirty.
-                ((PlayerInventoryBridge) ((net.minecraft.world.entity.player.Player) player).getInventory()).bridge$cleanupDirty();
+                ((PlayerInventoryBridge) player.getInventory()).bridge$cleanupDirty();
             }
-        });
+        }
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scoreboard;
+
+import net.minecraft.network.protocol.BundlerInfo;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.network.protocol.game.ClientboundResetScorePacket;
+import net.minecraft.network.protocol.game.ClientboundSetScorePacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the score changes of a scoreboard until the end of the tick, so
+ * that only the last value of each score is sent, and only if it differs
+ * from the value its viewers already have.
+ */
+public final class ScoreUpdateQueue {
+
+    private final Map<ScoreKey, ClientboundSetScorePacket> pending = new LinkedHashMap<>();
+    private final Map<ScoreKey, ClientboundSetScorePacket> sent = new HashMap<>();
+
+    /**
+     * Queues a score change, replacing any change to the same score that was
+     * queued earlier.
+     *
+     * @param packet The score packet
+     * @return True if the queue was empty before
+     */
+    public boolean queue(final ClientboundSetScorePacket packet) {
+        final boolean wasEmpty = this.pending.isEmpty();
+        this.pending.put(new ScoreKey(packet.owner(), packet.objectiveName()), packet);
+        return wasEmpty;
+    }
+
+    public boolean isEmpty() {
+        return this.pending.isEmpty();
+    }
+
+    /**
+     * Drains the queued changes into the packets that need to be sent, which
+     * are bundled together when there is more than one.
+     *
+     * @return The packets to send
+     */
+    public List<Packet<? super ClientGamePacketListener>> drain() {
+        if (this.pending.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Packet<? super ClientGamePacketListener>> changes = new ArrayList<>(this.pending.size());
+        for (final Map.Entry<ScoreKey, ClientboundSetScorePacket> entry : this.pending.entrySet()) {
+            final ClientboundSetScorePacket packet = entry.getValue();
+            if (!packet.equals(this.sent.put(entry.getKey(), packet))) {
+                changes.add(packet);
+            }
+        }
+        this.pending.clear();
+        if (changes.size() <= 1) {
+            return changes;
+        }
+        final List<Packet<? super ClientGamePacketListener>> bundles = new ArrayList<>();
+        for (int i = 0; i < changes.size(); i += BundlerInfo.BUNDLE_SIZE_LIMIT) {
+            bundles.add(new ClientboundBundlePacket(changes.subList(i, Math.min(changes.size(), i + BundlerInfo.BUNDLE_SIZE_LIMIT))));
+        }
+        return bundles;
+    }
+
+    /**
+     * Forgets the last sent values of the scores removed by the given packet,
+     * the queue has to be drained before.
+     *
+     * @param packet The reset packet
+     */
+    public void reset(final ClientboundResetScorePacket packet) {
+        final @Nullable String objective = packet.objectiveName();
+        if (objective == null) {
+            this.sent.keySet().removeIf(key -> key.owner().equals(packet.owner()));
+        } else {
+            this.sent.remove(new ScoreKey(packet.owner(), objective));
+        }
+    }
+
+    /**
+     * Forgets the last sent values of all scores of the given objective, the
+     * queue has to be drained before.
+     *
+     * @param objective The objective name
+     */
+    public void resetObjective(final String objective) {
+        this.sent.keySet().removeIf(key -> key.objective().equals(objective));
+    }
+
+    private record ScoreKey(String owner, String objective) {
+    }
+}
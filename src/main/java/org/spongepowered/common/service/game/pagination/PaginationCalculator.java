@@ -45,6 +45,8 @@
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.PrimitiveIterator;
 
 /**
@@ -56,9 +58,16 @@ final class PaginationCalculator {
     private static final String NON_UNICODE_CHARS;
     private static final int[] NON_UNICODE_CHAR_WIDTHS;
     private static final byte[] UNICODE_CHAR_WIDTHS;
+    // Code point -> Width, for every character of the basic multilingual plane
+    private static final byte[] BMP_CHAR_WIDTHS;
     private static final int LINE_WIDTH = 320;
+    private static final int MAX_CACHED_WIDTHS = 256;
+    private static final int MAX_CACHED_CENTERED = 64;
 
     private final int linesPerPage;
+    // Titles, footers and paddings are measured again on every page turn
+    private final Map<Component, Integer> widths = PaginationCalculator.lruCache(PaginationCalculator.MAX_CACHED_WIDTHS);
+    private final Map<CenteredText, Component> centered = PaginationCalculator.lruCache(PaginationCalculator.MAX_CACHED_CENTERED);
 
     /**
      * Constructs a new pagination calculator.
@@ -81,6 +90,33 @@ final class PaginationCalculator {
         } catch (final ConfigurateException e) {
             throw new ExceptionInInitializerError(e);
         }
+        BMP_CHAR_WIDTHS = PaginationCalculator.computeCharWidths();
+    }
+
+    private static byte[] computeCharWidths() {
+        final byte[] widths = new byte[Character.MAX_VALUE + 1];
+        final int unicodeChars = Math.min(widths.length, PaginationCalculator.UNICODE_CHAR_WIDTHS.length);
+        for (int codePoint = 0; codePoint < unicodeChars; codePoint++) {
+            widths[codePoint] = (byte) PaginationCalculator.getUnicodeWidth(codePoint);
+        }
+        // Walk backwards so that the first occurrence of a character wins, like indexOf does
+        for (int i = PaginationCalculator.NON_UNICODE_CHARS.length() - 1; i >= 0; i--) {
+            final char c = PaginationCalculator.NON_UNICODE_CHARS.charAt(i);
+            if (c > 0) {
+                widths[c] = (byte) PaginationCalculator.NON_UNICODE_CHAR_WIDTHS[i];
+            }
+        }
+        widths[' '] = 4;
+        return widths;
+    }
+
+    private static <K, V> Map<K, V> lruCache(final int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return this.size() > maxSize;
+            }
+        };
     }
 
     int getLinesPerPage() {
@@ -108,13 +144,24 @@ int getLines(final Component text) {
      */
     @VisibleForTesting
     int getWidth(final int codePoint, final boolean isBold) {
-        final int nonUnicodeIdx = PaginationCalculator.NON_UNICODE_CHARS.indexOf(codePoint);
         int width;
-        if (codePoint == 32) {
-            width = 4;
-        } else if (codePoint > 0 && nonUnicodeIdx != -1) {
-            width = PaginationCalculator.NON_UNICODE_CHAR_WIDTHS[nonUnicodeIdx];
-        } else if (PaginationCalculator.UNICODE_CHAR_WIDTHS[codePoint] != 0) {
+        if (codePoint >= 0 && codePoint < PaginationCalculator.BMP_CHAR_WIDTHS.length) {
+            width = PaginationCalculator.BMP_CHAR_WIDTHS[codePoint];
+        } else {
+            final int nonUnicodeIdx = PaginationCalculator.NON_UNICODE_CHARS.indexOf(codePoint);
+            width = nonUnicodeIdx != -1 ? PaginationCalculator.NON_UNICODE_CHAR_WIDTHS[nonUnicodeIdx] : PaginationCalculator.getUnicodeWidth(codePoint);
+        }
+        //if bolded width gets 1 added.
+        if (isBold && width > 0) {
+            width = width + 1;
+        }
+
+        return width;
+    }
+
+    private static int getUnicodeWidth(final int codePoint) {
+        int width;
+        if (codePoint < PaginationCalculator.UNICODE_CHAR_WIDTHS.length && PaginationCalculator.UNICODE_CHAR_WIDTHS[codePoint] != 0) {
             //from 1.9 & 255 to avoid strange signed int math ruining things.
             //https://bugs.mojang.com/browse/MC-7181
             final int temp = PaginationCalculator.UNICODE_CHAR_WIDTHS[codePoint] & 255;
@@ -135,11 +182,6 @@ int getWidth(final int codePoint, final boolean isBold) {
         } else {
             width = 0;
         }
-        //if bolded width gets 1 added.
-        if (isBold && width > 0) {
-            width = width + 1;
-        }
-
         return width;
     }
 
@@ -152,6 +194,16 @@ int getWidth(final int codePoint, final boolean isBold) {
      */
     @VisibleForTesting
     int getWidth(final Component text) {
+        final Integer cached = this.widths.get(text);
+        if (cached != null) {
+            return cached;
+        }
+        final int width = this.measure(text);
+        this.widths.put(text, width);
+        return width;
+    }
+
+    private int measure(final Component text) {
         final Deque<Component> children = new ArrayDeque<>(1 + text.children().size());
         children.add(text);
         int total = 0;
@@ -227,7 +279,11 @@ int getWidth(final Component text) {
      */
     //TODO: Probably should completely rewrite this to not compute padding, but loop until the padding is done, unless
     //we can get accurate computation of padding ahead of time.
-    Component center(Component text, Component padding) {
+    Component center(final Component text, final Component padding) {
+        return this.centered.computeIfAbsent(new CenteredText(text, padding), key -> this.doCenter(key.text(), key.padding()));
+    }
+
+    private Component doCenter(Component text, Component padding) {
         int inputLength = this.getWidth(text);
         //Minecraft breaks lines when the next character would be > then LINE_WIDTH, this seems most graceful way to fail
         if (inputLength >= PaginationCalculator.LINE_WIDTH) {
@@ -319,4 +375,7 @@ private void addPadding(final Component padding, final TextComponent.Builder bui
             }
         }
     }
+
+    private record CenteredText(Component text, Component padding) {
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import org.apache.logging.log4j.Level;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each lifecycle stage and each plugin listener takes while
+ * the game is starting. Enabled with {@code -Dsponge.startupProfiler=true},
+ * the report is logged and written to {@code logs/sponge-startup.txt} once
+ * the game has loaded.
+ */
+public final class StartupProfiler {
+
+    // Constant, so checks on hot paths are removed by the JIT when profiling is off
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("sponge.startupProfiler", "false"));
+    private static final Section NO_OP = () -> {};
+
+    private static volatile boolean active = StartupProfiler.ENABLED;
+    private static final Map<String, Long> stages = new LinkedHashMap<>();
+    private static final Map<String, Map<String, Long>> listeners = new LinkedHashMap<>();
+
+    public static boolean isActive() {
+        return StartupProfiler.active;
+    }
+
+    /**
+     * Starts timing the named stage, the returned section should be closed
+     * when the stage completes.
+     *
+     * @param name The stage name
+     * @return The section
+     */
+    public static Section stage(final String name) {
+        if (!StartupProfiler.active) {
+            return StartupProfiler.NO_OP;
+        }
+        final long start = System.nanoTime();
+        return () -> StartupProfiler.record(StartupProfiler.stages, name, System.nanoTime() - start);
+    }
+
+    public static void recordListener(final PluginContainer plugin, final Class<?> eventClass, final long nanos) {
+        final Map<String, Long> events;
+        synchronized (StartupProfiler.listeners) {
+            events = StartupProfiler.listeners.computeIfAbsent(plugin.metadata().id(), k -> new LinkedHashMap<>());
+        }
+        StartupProfiler.record(events, eventClass.getSimpleName(), nanos);
+    }
+
+    private static void record(final Map<String, Long> timings, final String key, final long nanos) {
+        synchronized (StartupProfiler.listeners) {
+            timings.merge(key, nanos, Long::sum);
+        }
+    }
+
+    /**
+     * Stops recording and reports everything gathered so far. Does nothing if
+     * the profiler was not enabled or has already been completed.
+     */
+    public static void complete() {
+        if (!StartupProfiler.active) {
+            return;
+        }
+        StartupProfiler.active = false;
+        // Measured from JVM start, so it includes the launcher and mixin bootstrap
+        final long total = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime());
+
+        final PrettyPrinter printer = new PrettyPrinter(80).add("Sponge Startup Profile").centre().hr();
+        synchronized (StartupProfiler.listeners) {
+            printer.kv("Total (since JVM start)", StartupProfiler.format(total)).add();
+            printer.add("Lifecycle stages").hr('-');
+            StartupProfiler.stages.forEach((stage, nanos) -> printer.kv(stage, StartupProfiler.format(nanos)));
+            printer.add().add("Plugin listeners (slowest first)").hr('-');
+            final List<Map.Entry<String, Map<String, Long>>> plugins = new ArrayList<>(StartupProfiler.listeners.entrySet());
+            plugins.sort(Comparator.comparingLong((Map.Entry<String, Map<String, Long>> e) -> StartupProfiler.sum(e.getValue())).reversed());
+            for (final Map.Entry<String, Map<String, Long>> plugin : plugins) {
+                printer.kv(plugin.getKey(), StartupProfiler.format(StartupProfiler.sum(plugin.getValue())));
+                plugin.getValue().forEach((event, nanos) -> printer.kv("  " + event, StartupProfiler.format(nanos)));
+            }
+            StartupProfiler.stages.clear();
+            StartupProfiler.listeners.clear();
+        }
+
+        printer.log(SpongeCommon.logger(), Level.INFO);
+        final Path report = SpongeCommon.gameDirectory().resolve("logs").resolve("sponge-startup.txt");
+        try {
+            Files.createDirectories(report.getParent());
+            try (final PrintStream stream = new PrintStream(Files.newOutputStream(report))) {
+                printer.print(stream);
+            }
+        } catch (final IOException e) {
+            SpongeCommon.logger().error("Could not write startup profile to {}", report, e);
+        }
+    }
+
+    private static long sum(final Map<String, Long> timings) {
+        long total = 0;
+        for (final long nanos : timings.values()) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    private static String format(final long nanos) {
+        return String.format("%.2f ms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @FunctionalInterface
+    public interface Section extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private StartupProfiler() {
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.spongepowered.common.bridge.world.entity.player.PlayerBridge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A per level index of the players that may activate spawning, bucketed by
+ * chunk column. The index is rebuilt at most once per game tick, so that
+ * the thousands of proximity checks done by spawners every tick only look
+ * at the players in the columns around them.
+ */
+public final class SpawningPlayerIndex {
+
+    private final Level level;
+    private final Long2ObjectMap<List<Player>> columns = new Long2ObjectOpenHashMap<>();
+    private final List<Player> players = new ArrayList<>();
+    private long builtAt = Long.MIN_VALUE;
+
+    public SpawningPlayerIndex(final Level level) {
+        this.level = level;
+    }
+
+    /**
+     * Checks whether a living, non spectating player that affects spawning is
+     * closer than the given distance, like {@link Level#hasNearbyAlivePlayer}.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @param distance The distance, negative for any distance
+     * @return True if such a player is near
+     */
+    public boolean hasNearbySpawningPlayer(final double x, final double y, final double z, final double distance) {
+        this.refresh();
+        if (this.players.isEmpty()) {
+            return false;
+        }
+        if (distance < 0.0D) {
+            for (final Player player : this.players) {
+                if (SpawningPlayerIndex.isEligible(player)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        final int minX = Mth.floor(x - distance) >> 4;
+        final int maxX = Mth.floor(x + distance) >> 4;
+        final int minZ = Mth.floor(z - distance) >> 4;
+        final int maxZ = Mth.floor(z + distance) >> 4;
+        final double distanceSq = distance * distance;
+        // A huge range covers more columns than there are players, look at every player instead
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > this.players.size()) {
+            return SpawningPlayerIndex.anyWithin(this.players, x, y, z, distanceSq);
+        }
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                final List<Player> column = this.columns.get(ChunkPos.asLong(cx, cz));
+                if (column != null && SpawningPlayerIndex.anyWithin(column, x, y, z, distanceSq)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyWithin(final List<Player> players, final double x, final double y, final double z, final double distanceSq) {
+        for (final Player player : players) {
+            // State may have changed since the index was built, check it again
+            if (player.distanceToSqr(x, y, z) < distanceSq && SpawningPlayerIndex.isEligible(player)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEligible(final Player player) {
+        return EntitySelector.NO_SPECTATORS.test(player)
+            && EntitySelector.LIVING_ENTITY_STILL_ALIVE.test(player)
+            && ((PlayerBridge) player).bridge$affectsSpawning();
+    }
+
+    private void refresh() {
+        final long gameTime = this.level.getGameTime();
+        if (this.builtAt == gameTime) {
+            return;
+        }
+        this.builtAt = gameTime;
+        this.columns.clear();
+        this.players.clear();
+        for (final Player player : this.level.players()) {
+            if (!SpawningPlayerIndex.isEligible(player)) {
+                continue;
+            }
+            this.players.add(player);
+            this.columns.computeIfAbsent(ChunkPos.asLong(Mth.floor(player.getX()) >> 4, Mth.floor(player.getZ()) >> 4), k -> new ArrayList<>(2))
+                .add(player);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.entity.PlayerTracker;
+
+import java.util.Arrays;
+
+/**
+ * Stores the creator and notifier indices of tracked block positions within
+ * a chunk. Positions are split up per chunk section, with each section
+ * holding an open-addressed table of section-local positions to the packed
+ * creator and notifier indices, avoiding boxed keys and a
+ * {@link PlayerTracker} allocation per tracked position.
+ */
+public final class TrackedBlockPositions {
+
+    /**
+     * The packed value of a position that is not tracked.
+     */
+    public static final long NONE = TrackedBlockPositions.pack(-1, -1);
+
+    private final int minSection;
+    private final @Nullable Section[] sections;
+
+    public TrackedBlockPositions(final int minSection, final int sectionCount) {
+        this.minSection = minSection;
+        this.sections = new Section[sectionCount];
+    }
+
+    public static long pack(final int creatorIndex, final int notifierIndex) {
+        return ((long) creatorIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    public static int creatorIndex(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int notifierIndex(final long packed) {
+        return (int) packed;
+    }
+
+    private static int localKey(final int x, final int y, final int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private @Nullable Section section(final int y, final boolean create) {
+        final int index = (y >> 4) - this.minSection;
+        if (index < 0 || index >= this.sections.length) {
+            return null;
+        }
+        Section section = this.sections[index];
+        if (section == null && create) {
+            section = new Section();
+            this.sections[index] = section;
+        }
+        return section;
+    }
+
+    /**
+     * Gets the packed creator and notifier indices of the given position.
+     *
+     * @return The packed indices, or {@link #NONE} if not tracked
+     */
+    public long get(final int x, final int y, final int z) {
+        final @Nullable Section section = this.section(y, false);
+        return section == null ? TrackedBlockPositions.NONE : section.get(TrackedBlockPositions.localKey(x, y, z));
+    }
+
+    /**
+     * Sets the packed creator and notifier indices of the given position,
+     * untracking the position if both are unset.
+     */
+    public void put(final int x, final int y, final int z, final long packed) {
+        if (packed == TrackedBlockPositions.NONE) {
+            this.remove(x, y, z);
+            return;
+        }
+        final @Nullable Section section = this.section(y, true);
+        if (section != null) {
+            section.put(TrackedBlockPositions.localKey(x, y, z), packed);
+        }
+    }
+
+    /**
+     * Sets the creator of the given position. If the position is already
+     * tracked and {@code replaceNotifier} is set, the notifier is replaced as
+     * well, otherwise a newly tracked position has no notifier.
+     */
+    public void setCreator(final int x, final int y, final int z, final int index, final boolean replaceNotifier) {
+        final long current = this.get(x, y, z);
+        if (current == TrackedBlockPositions.NONE) {
+            this.put(x, y, z, TrackedBlockPositions.pack(index, -1));
+        } else {
+            this.put(x, y, z, TrackedBlockPositions.pack(index, replaceNotifier ? index : TrackedBlockPositions.notifierIndex(current)));
+        }
+    }
+
+    public void setNotifier(final int x, final int y, final int z, final int index) {
+        final long current = this.get(x, y, z);
+        this.put(x, y, z, TrackedBlockPositions.pack(TrackedBlockPositions.creatorIndex(current), index));
+    }
+
+    public void remove(final int x, final int y, final int z) {
+        final @Nullable Section section = this.section(y, false);
+        if (section != null) {
+            section.remove(TrackedBlockPositions.localKey(x, y, z));
+        }
+    }
+
+    public boolean isEmpty() {
+        for (final @Nullable Section section : this.sections) {
+            if (section != null && section.size != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        int size = 0;
+        for (final @Nullable Section section : this.sections) {
+            if (section != null) {
+                size += section.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Drops all tracked positions at once, used when the chunk is unloaded.
+     */
+    public void clear() {
+        Arrays.fill(this.sections, null);
+    }
+
+    /**
+     * Writes all tracked positions as triples of the packed position, the
+     * creator index and the notifier index. The packed position holds the
+     * section y coordinate in the upper bits and the section-local position
+     * in the lower 12 bits.
+     *
+     * @return The serialized positions
+     */
+    public int[] write() {
+        final int[] data = new int[this.size() * 3];
+        int i = 0;
+        for (int index = 0; index < this.sections.length; index++) {
+            final @Nullable Section section = this.sections[index];
+            if (section == null || section.size == 0) {
+                continue;
+            }
+            final int sectionY = index + this.minSection;
+            final short[] keys = section.keys;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] == Section.EMPTY) {
+                    continue;
+                }
+                data[i++] = sectionY << 12 | keys[slot];
+                data[i++] = TrackedBlockPositions.creatorIndex(section.values[slot]);
+                data[i++] = TrackedBlockPositions.notifierIndex(section.values[slot]);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Replaces all tracked positions with the ones previously written
+     * by {@link #write()}.
+     *
+     * @param data The serialized positions
+     */
+    public void read(final int[] data) {
+        this.clear();
+        for (int i = 0; i + 2 < data.length; i += 3) {
+            final int pos = data[i];
+            final int y = (pos >> 12) << 4 | (pos >> 8 & 15);
+            this.put(pos & 15, y, pos >> 4 & 15, TrackedBlockPositions.pack(data[i + 1], data[i + 2]));
+        }
+    }
+
+    /**
+     * An open-addressed, linearly probed table of section-local positions
+     * (12 bits) to packed indices.
+     */
+    static final class Section {
+
+        static final short EMPTY = -1;
+        private static final int INITIAL_CAPACITY = 8;
+
+        short[] keys;
+        long[] values;
+        int size;
+        private int mask;
+
+        Section() {
+            this.allocate(Section.INITIAL_CAPACITY);
+        }
+
+        private void allocate(final int capacity) {
+            this.keys = new short[capacity];
+            Arrays.fill(this.keys, Section.EMPTY);
+            this.values = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private static int mix(final int key) {
+            final int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        long get(final int key) {
+            final short[] keys = this.keys;
+            int slot = Section.mix(key) & this.mask;
+            short current;
+            while ((current = keys[slot]) != Section.EMPTY) {
+                if (current == key) {
+                    return this.values[slot];
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            return TrackedBlockPositions.NONE;
+        }
+
+        void put(final int key, final long value) {
+            final short[] keys = this.keys;
+            int slot = Section.mix(key) & this.mask;
+            short current;
+            while ((current = keys[slot]) != Section.EMPTY) {
+                if (current == key) {
+                    this.values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & this.mask;
+            }
+            keys[slot] = (short) key;
+            this.values[slot] = value;
+            if (++this.size > (keys.length >> 1) + (keys.length >> 2)) {
+                this.rehash(keys.length << 1);
+            }
+        }
+
+        void remove(final int key) {
+            final short[] keys = this.keys;
+            int slot = Section.mix(key) & this.mask;
+            short current;
+            while ((current = keys[slot]) != Section.EMPTY) {
+                if (current == key) {
+                    this.size--;
+                    this.shiftKeys(slot);
+                    return;
+                }
+                slot = (slot + 1) & this.mask;
+            }
+        }
+
+        // Backward shift deletion, keeps probe sequences intact without tombstones
+        private void shiftKeys(int pos) {
+            final short[] keys = this.keys;
+            int last;
+            short current;
+            while (true) {
+                pos = ((last = pos) + 1) & this.mask;
+                while (true) {
+                    if ((current = keys[pos]) == Section.EMPTY) {
+                        keys[last] = Section.EMPTY;
+                        return;
+                    }
+                    final int slot = Section.mix(current) & this.mask;
+                    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                        break;
+                    }
+                    pos = (pos + 1) & this.mask;
+                }
+                keys[last] = current;
+                this.values[last] = this.values[pos];
+            }
+        }
+
+        private void rehash(final int capacity) {
+            final short[] oldKeys = this.keys;
+            final long[] oldValues = this.values;
+            this.allocate(capacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                final short key = oldKeys[i];
+                if (key == Section.EMPTY) {
+                    continue;
+                }
+                int slot = Section.mix(key) & this.mask;
+                while (this.keys[slot] != Section.EMPTY) {
+                    slot = (slot + 1) & this.mask;
+                }
+                this.keys[slot] = key;
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+}
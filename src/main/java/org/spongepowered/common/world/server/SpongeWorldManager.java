@@ -38,6 +38,8 @@
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.dedicated.DedicatedServer;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ChunkResult;
 import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.TicketType;
@@ -55,6 +57,7 @@
 import net.minecraft.world.level.LevelSettings;
 import net.minecraft.world.level.WorldDataConfiguration;
 import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.dimension.BuiltinDimensionTypes;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
@@ -78,6 +81,7 @@
 import org.spongepowered.api.event.world.LoadWorldEvent;
 import org.spongepowered.api.event.world.UnloadWorldEvent;
 import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
 import org.spongepowered.api.util.file.DeleteFileVisitor;
 import org.spongepowered.api.world.DefaultWorldKeys;
 import org.spongepowered.api.world.WorldType;
@@ -87,6 +91,7 @@
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
+import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
 import org.spongepowered.common.accessor.world.level.storage.LevelStorageSource_LevelStorageAccessAccessor;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
@@ -106,6 +111,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -115,16 +121,18 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public abstract class SpongeWorldManager implements WorldManager {
@@ -134,6 +142,11 @@ public abstract class SpongeWorldManager implements WorldManager {
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", ResourceLocation::compareTo);
+    private static final int PARALLEL_COPY_THRESHOLD = 64;
+    private static final int PARALLEL_COPY_STRIPES = 4;
+
+    // Worlds which are currently being copied, moved or deleted off the main thread
+    private final Set<ResourceKey> pendingFileOperations = new HashSet<>();
 
     public SpongeWorldManager(final MinecraftServer server) {
         this.server = server;
@@ -259,6 +272,10 @@ public CompletableFuture<ServerWorld> loadWorld(final WorldTemplate template) {
             return CompletableFuture.completedFuture((ServerWorld) serverWorld);
         }
 
+        if (this.isFileOperationPending(key)) {
+            return SpongeWorldManager.pendingFileOperationFailure(key);
+        }
+
         this.saveTemplate(template);
 
         return this.loadWorld0(registryKey, ((SpongeWorldTemplate) template).levelStem());
@@ -276,6 +293,10 @@ public CompletableFuture<ServerWorld> loadWorld(final ResourceKey key) {
             return CompletableFuture.completedFuture((ServerWorld) world);
         }
 
+        if (this.isFileOperationPending(key)) {
+            return SpongeWorldManager.pendingFileOperationFailure(key);
+        }
+
         // First find a loaded level-stem / To load based on a datapack load using the WorldTemplate instead
 
         final net.minecraft.resources.ResourceKey<LevelStem> rKey = net.minecraft.resources.ResourceKey.create(Registries.LEVEL_STEM, (ResourceLocation) (Object) key);
@@ -369,6 +390,10 @@ public CompletableFuture<Boolean> unloadWorld(final ServerWorld world) {
             return CompletableFuture.completedFuture(false);
         }
 
+        if (this.isFileOperationPending(world.key())) {
+            return SpongeWorldManager.pendingFileOperationFailure(world.key());
+        }
+
         try {
             this.unloadWorld0((ServerLevel) world);
             return CompletableFuture.completedFuture(true);
@@ -479,88 +504,103 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
+        if (!this.beginFileOperation(key, copyKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
+        final boolean disableLevelSaving;
 
         if (loadedWorld != null) {
             disableLevelSaving = loadedWorld.noSave;
             loadedWorld.save(null, true, loadedWorld.noSave);
             loadedWorld.noSave = true;
+        } else {
+            disableLevelSaving = false;
         }
 
         final boolean isDefaultWorld = DefaultWorldKeys.DEFAULT.equals(key);
 
         final Path originalDirectory = this.getDirectory(key);
         final Path copyDirectory = this.getDirectory(copyKey);
+        final Path configFile = this.getConfigFile(key);
+        final Path copyConfigFile = this.getConfigFile(copyKey);
+        final DataPack<WorldTemplate> pack = this.findPack(key);
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
-                    // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
+        final FileOperation operation = future -> {
+            final List<Path> files = new ArrayList<>();
+            try {
+                Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                        if (future.isCancelled()) {
+                            return FileVisitResult.TERMINATE;
+                        }
 
-                    // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
+                        // Silly recursion if the default world is being copied
+                        if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
 
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
+                        // Silly copying of vanilla sub worlds if the default world is being copied
+                        if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
 
-                    return FileVisitResult.CONTINUE;
-                }
+                        final Path relativize = originalDirectory.relativize(dir);
+                        final Path directory = copyDirectory.resolve(relativize);
+                        Files.createDirectories(directory);
 
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    final String fileName = file.getFileName().toString();
-                    // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
                         return FileVisitResult.CONTINUE;
                     }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        final String fileName = file.getFileName().toString();
+                        // Do not copy backups (not relevant anymore)
+                        if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        files.add(originalDirectory.relativize(file));
+
                         return FileVisitResult.CONTINUE;
                     }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
+                });
 
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
-            try {
-                Files.walkFileTree(copyDirectory, DeleteFileVisitor.INSTANCE);
-            } catch (final IOException ignore) {
+                SpongeWorldManager.copyFiles(originalDirectory, copyDirectory, files, future);
+            } catch (final IOException e) {
+                // Bail the whole deal if we hit IO problems!
+                SpongeWorldManager.deleteQuietly(copyDirectory);
+                throw e;
             }
 
-            return FutureUtil.completedWithException(e);
-        }
-
-        if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
-        }
-
-        final Path configFile = this.getConfigFile(key);
-        final Path copyConfigFile = this.getConfigFile(copyKey);
+            if (future.isCancelled()) {
+                SpongeWorldManager.deleteQuietly(copyDirectory);
+                return false;
+            }
 
-        try {
             Files.createDirectories(copyConfigFile.getParent());
             Files.copy(configFile, copyConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
 
-        try {
-            this.server().dataPackManager().copy(this.findPack(key), key, copyKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+            this.server().dataPackManager().copy(pack, key, copyKey);
 
-        return CompletableFuture.completedFuture(true);
+            return true;
+        };
+        final Runnable restoreLevelSaving = () -> {
+            if (loadedWorld != null) {
+                loadedWorld.noSave = disableLevelSaving;
+            }
+        };
+
+        // A loaded world keeps ticking and writing region files when its chunks unload,
+        // it can only be copied consistently while the main thread is blocked
+        if (loadedWorld != null) {
+            return this.runFileOperation(operation, restoreLevelSaving, key, copyKey);
+        }
+        return this.submitFileOperation(operation, restoreLevelSaving, key, copyKey);
     }
 
     @Override
@@ -579,42 +619,37 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
+        if (!this.beginFileOperation(key, movedKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
         if (loadedWorld != null) {
             try {
                 this.unloadWorld0(loadedWorld);
             } catch (final IOException e) {
+                this.endFileOperation(key, movedKey);
                 return FutureUtil.completedWithException(e);
             }
         }
 
         final Path originalDirectory = this.getDirectory(key);
         final Path movedDirectory = this.getDirectory(movedKey);
+        final Path configFile = this.getConfigFile(key);
+        final Path movedConfigFile = this.getConfigFile(movedKey);
+        final DataPack<WorldTemplate> pack = this.findPack(key);
 
-        try {
+        return this.submitFileOperation(future -> {
             Files.createDirectories(movedDirectory);
             Files.move(originalDirectory, movedDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        final Path configFile = this.getConfigFile(key);
-        final Path movedConfigFile = this.getConfigFile(movedKey);
 
-        try {
             Files.createDirectories(movedConfigFile.getParent());
             Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
 
-        try {
-            this.server().dataPackManager().move(this.findPack(key), key, movedKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+            this.server().dataPackManager().move(pack, key, movedKey);
 
-        return CompletableFuture.completedFuture(true);
+            return true;
+        }, () -> {}, key, movedKey);
     }
 
     @Override
@@ -629,6 +664,10 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
             return CompletableFuture.completedFuture(false);
         }
 
+        if (!this.beginFileOperation(key)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
         if (loadedWorld != null) {
             final boolean disableLevelSaving = loadedWorld.noSave;
@@ -637,33 +676,149 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
                 this.unloadWorld0(loadedWorld);
             } catch (final IOException e) {
                 loadedWorld.noSave = disableLevelSaving;
+                this.endFileOperation(key);
                 return FutureUtil.completedWithException(e);
             }
         }
 
         final Path directory = this.getDirectory(key);
-        if (Files.exists(directory)) {
-            try {
+        final Path configFile = this.getConfigFile(key);
+        final DataPack<WorldTemplate> pack = this.findPack(key);
+
+        return this.submitFileOperation(future -> {
+            if (Files.exists(directory)) {
                 Files.walkFileTree(directory, DeleteFileVisitor.INSTANCE);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
+            }
+
+            Files.deleteIfExists(configFile);
+
+            this.server().dataPackManager().delete(pack, key);
+
+            return true;
+        }, () -> {}, key);
+    }
+
+    private synchronized boolean beginFileOperation(final ResourceKey... keys) {
+        for (final ResourceKey key : keys) {
+            if (this.pendingFileOperations.contains(key)) {
+                return false;
             }
         }
+        Collections.addAll(this.pendingFileOperations, keys);
+        return true;
+    }
 
-        final Path configFile = this.getConfigFile(key);
+    private synchronized boolean isFileOperationPending(final ResourceKey key) {
+        return this.pendingFileOperations.contains(key);
+    }
+
+    private static <T> CompletableFuture<T> pendingFileOperationFailure(final ResourceKey key) {
+        return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' is being copied, moved or deleted!", key)));
+    }
+
+    private synchronized void endFileOperation(final ResourceKey... keys) {
+        for (final ResourceKey key : keys) {
+            this.pendingFileOperations.remove(key);
+        }
+    }
+
+    /**
+     * Runs the file operation on the IO pool, the returned future is always
+     * completed on the main thread after {@code onMainThread} has run. Until
+     * then, the provided keys are blocked from any other file operation.
+     */
+    private CompletableFuture<Boolean> submitFileOperation(final FileOperation operation, final Runnable onMainThread, final ResourceKey... keys) {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        Util.ioPool().execute(() -> {
+            boolean result = false;
+            @Nullable Throwable error = null;
+            try {
+                result = operation.run(future);
+            } catch (final Throwable t) {
+                error = t;
+            }
+            final boolean completedResult = result;
+            final @Nullable Throwable completedError = error;
+            this.server.execute(() -> this.completeFileOperation(future, completedResult, completedError, onMainThread, keys));
+        });
+        return future;
+    }
+
+    /**
+     * Runs the file operation on the calling thread, which must be the main
+     * thread, and completes the returned future before returning.
+     */
+    private CompletableFuture<Boolean> runFileOperation(final FileOperation operation, final Runnable onMainThread, final ResourceKey... keys) {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        boolean result = false;
+        @Nullable Throwable error = null;
         try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
+            result = operation.run(future);
+        } catch (final Throwable t) {
+            error = t;
+        }
+        this.completeFileOperation(future, result, error, onMainThread, keys);
+        return future;
+    }
+
+    private void completeFileOperation(final CompletableFuture<Boolean> future, final boolean result, final @Nullable Throwable error,
+            final Runnable onMainThread, final ResourceKey... keys) {
+        onMainThread.run();
+        this.endFileOperation(keys);
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(result);
         }
+    }
 
+    /**
+     * Copies the files in parallel stripes, large worlds consist mostly of
+     * region files which gain a lot from overlapping their IO.
+     */
+    private static void copyFiles(final Path from, final Path to, final List<Path> files, final CompletableFuture<?> future) throws IOException {
+        final int stripes = files.size() < SpongeWorldManager.PARALLEL_COPY_THRESHOLD ? 1 : SpongeWorldManager.PARALLEL_COPY_STRIPES;
+        final List<CompletableFuture<Void>> copies = new ArrayList<>(stripes - 1);
+        for (int stripe = 1; stripe < stripes; stripe++) {
+            final int offset = stripe;
+            copies.add(CompletableFuture.runAsync(() -> {
+                try {
+                    SpongeWorldManager.copyStripe(from, to, files, offset, stripes, future);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, Util.ioPool()));
+        }
+        SpongeWorldManager.copyStripe(from, to, files, 0, stripes, future);
         try {
-            this.server().dataPackManager().delete(this.findPack(key), key);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
+            CompletableFuture.allOf(copies.toArray(new CompletableFuture[0])).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
         }
+    }
 
-        return CompletableFuture.completedFuture(true);
+    private static void copyStripe(final Path from, final Path to, final List<Path> files, final int offset, final int stripes,
+            final CompletableFuture<?> future) throws IOException {
+        for (int i = offset; i < files.size() && !future.isCancelled(); i += stripes) {
+            final Path file = files.get(i);
+            Files.copy(from.resolve(file), to.resolve(file), StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(final Path directory) {
+        try {
+            Files.walkFileTree(directory, DeleteFileVisitor.INSTANCE);
+        } catch (final IOException ignore) {
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileOperation {
+
+        boolean run(CompletableFuture<Boolean> future) throws IOException;
     }
 
     private DataPack<WorldTemplate> findPack(ResourceKey key) {
@@ -947,26 +1102,14 @@ private CompletableFuture<ServerLevel> loadSpawnChunksAsync(final ServerLevel wo
 //        serverChunkProvider.getLightEngine().setTaskPerBatch(500); was 5 in 1.19.4 , final 1000 in 1.20
 
         final int borderRadius = 11;
-        final int diameter = ((borderRadius - 1) * 2) + 1;
-        final int spawnChunks = diameter * diameter;
 
         serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
         final CompletableFuture<ServerLevel> generationFuture = new CompletableFuture<>();
-        Sponge.asyncScheduler().submit(
-                Task.builder().plugin(Launch.instance().platformPlugin())
-                        .execute(task -> {
-                            if (serverChunkProvider.getTickingGenerated() >= spawnChunks) {
-                                Sponge.server().scheduler().submit(Task.builder().plugin(Launch.instance().platformPlugin()).execute(() -> generationFuture.complete(world)).build());
-                                // Notify the future that we are done
-                                task.cancel(); // And cancel this task
-                                MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
-                                        this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
-                            }
-                        })
-                        .interval(10, TimeUnit.MILLISECONDS)
-                        .build()
-        );
+        // The ticket is only propagated to the chunk holders during the next chunk tick
+        this.scheduleAwaitSpawnChunks(world, chunkPos, borderRadius - 1, generationFuture);
         return generationFuture.thenApply(v -> {
+            MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
+                    this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
             this.updateForcedChunks(world, serverChunkProvider);
 //            serverChunkProvider.getLightEngine().setTaskPerBatch(5);
 
@@ -978,6 +1121,48 @@ private CompletableFuture<ServerLevel> loadSpawnChunksAsync(final ServerLevel wo
         });
     }
 
+    /**
+     * Completes the future once every spawn chunk has become ticking, driven
+     * by the ticking futures of the chunk holders rather than by polling the
+     * ticking chunk count. Holders which do not exist yet, or whose futures
+     * were replaced before they completed, are picked up again on the next
+     * tick.
+     */
+    private void awaitSpawnChunks(final ServerLevel world, final ChunkPos center, final int radius, final CompletableFuture<ServerLevel> future) {
+        final ChunkMapAccessor chunkMap = (ChunkMapAccessor) world.getChunkSource().chunkMap;
+        final List<CompletableFuture<ChunkResult<LevelChunk>>> pending = new ArrayList<>();
+        for (int x = center.x - radius; x <= center.x + radius; x++) {
+            for (int z = center.z - radius; z <= center.z + radius; z++) {
+                final @Nullable ChunkHolder holder = chunkMap.invoker$getVisibleChunkIfPresent(ChunkPos.asLong(x, z));
+                if (holder == null) {
+                    this.scheduleAwaitSpawnChunks(world, center, radius, future);
+                    return;
+                }
+                final CompletableFuture<ChunkResult<LevelChunk>> ticking = holder.getTickingChunkFuture();
+                if (!ticking.isDone()) {
+                    pending.add(ticking);
+                } else if (!ticking.join().isSuccess()) {
+                    // Not scheduled to become ticking yet
+                    this.scheduleAwaitSpawnChunks(world, center, radius, future);
+                    return;
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            future.complete(world);
+            return;
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+                .whenCompleteAsync((v, t) -> this.awaitSpawnChunks(world, center, radius, future), this.server);
+    }
+
+    private void scheduleAwaitSpawnChunks(final ServerLevel world, final ChunkPos center, final int radius, final CompletableFuture<ServerLevel> future) {
+        Sponge.server().scheduler().submit(Task.builder().plugin(Launch.instance().platformPlugin())
+                .delay(Ticks.single())
+                .execute(() -> this.awaitSpawnChunks(world, center, radius, future))
+                .build());
+    }
+
     private void loadSpawnChunks(final ServerLevel world) {
         final BlockPos spawnPoint = world.getSharedSpawnPos();
         final ChunkPos chunkPos = new ChunkPos(spawnPoint);
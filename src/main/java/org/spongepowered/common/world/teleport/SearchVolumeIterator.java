@@ -0,0 +1,134 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Lazily iterates every position of a search volume, closest to the centre
+ * first. Positions at the same distance prefer larger changes in height,
+ * then higher positions, then lower x and z.
+ *
+ * <p>Only one entry per x/y column of the volume is kept, each column yields
+ * its z positions outwards from the centre, so positions are produced in
+ * order without materialising or sorting the whole volume.</p>
+ */
+final class SearchVolumeIterator implements Iterator<Vector3i> {
+
+    private static final Comparator<Column> ORDER = (a, b) -> {
+        int result = Long.compare(a.distanceSquared, b.distanceSquared);
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(Math.abs(b.dy), Math.abs(a.dy));
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(b.dy, a.dy);
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(a.dx, b.dx);
+        if (result != 0) {
+            return result;
+        }
+        return Integer.compare(a.dz, b.dz);
+    };
+
+    private final Vector3i centre;
+    private final int minDz;
+    private final int maxDz;
+    private final PriorityQueue<Column> columns;
+
+    SearchVolumeIterator(final Vector3i centre, final int minX, final int maxX, final int minY, final int maxY, final int minZ, final int maxZ) {
+        this.centre = centre;
+        this.minDz = minZ - centre.z();
+        this.maxDz = maxZ - centre.z();
+        this.columns = new PriorityQueue<>(Math.max(1, (maxX - minX + 1) * (maxY - minY + 1)), SearchVolumeIterator.ORDER);
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                final Column column = new Column(x - centre.x(), y - centre.y());
+                if (column.advance(this.minDz, this.maxDz)) {
+                    this.columns.add(column);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.columns.isEmpty();
+    }
+
+    @Override
+    public Vector3i next() {
+        final Column column = this.columns.poll();
+        if (column == null) {
+            throw new NoSuchElementException();
+        }
+        final Vector3i next = new Vector3i(this.centre.x() + column.dx, this.centre.y() + column.dy, this.centre.z() + column.dz);
+        if (column.advance(this.minDz, this.maxDz)) {
+            this.columns.add(column);
+        }
+        return next;
+    }
+
+    private static final class Column {
+
+        final int dx;
+        final int dy;
+        int dz;
+        long distanceSquared;
+        // Index into the z offsets 0, -1, 1, -2, 2, ...
+        private int step = -1;
+
+        Column(final int dx, final int dy) {
+            this.dx = dx;
+            this.dy = dy;
+        }
+
+        boolean advance(final int minDz, final int maxDz) {
+            final int limit = Math.max(-minDz, maxDz);
+            while (true) {
+                this.step++;
+                final int distance = (this.step + 1) / 2;
+                if (distance > limit) {
+                    return false;
+                }
+                final int dz = (this.step & 1) == 1 ? -distance : distance;
+                if (dz >= minDz && dz <= maxDz) {
+                    this.dz = dz;
+                    this.distanceSquared = (long) this.dx * this.dx + (long) this.dy * this.dy + (long) dz * dz;
+                    return true;
+                }
+            }
+        }
+    }
+}
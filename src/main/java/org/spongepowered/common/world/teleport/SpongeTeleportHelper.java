@@ -26,7 +26,14 @@
 
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.World;
@@ -41,13 +48,10 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
 
 @Singleton
 public final class SpongeTeleportHelper implements TeleportHelper {
@@ -71,7 +75,7 @@ public Optional<ServerLocation> findSafeLocation(ServerLocation location, int he
         return result.map(vector3i -> ServerLocation.of(world, vector3i.toDouble().add(0.5, 0, 0.5)));
     }
 
-    private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
+    private Iterator<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
         // We don't want to warp outside of the world border, so we want to check that we're within it.
         final WorldBorder.Settings worldBorder = (WorldBorder.Settings) worldLocation.world().properties().worldBorder();
         final double radius = worldBorder.getSize() / 2.0D;
@@ -96,75 +100,64 @@ private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int hei
         int minZ = GenericMath.clamp(vectorLocation.z() - width, worldBorderMinZ, worldBorderMaxZ);
         int maxZ = GenericMath.clamp(vectorLocation.z() + width, worldBorderMinZ, worldBorderMaxZ);
 
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
-                }
-            }
-        }
-
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
-
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.y() - x.y())).thenComparing(x -> -x.y());
-
-        // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
+        // Positions are produced lazily in order of distance to the provided worldLocation, preferring changes
+        // in Y over X and Z, and higher over lower locations, so only the positions we actually check are created.
+        return new SearchVolumeIterator(vectorLocation, minX, maxX, minY, maxY, minZ, maxZ);
     }
 
-    private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
+    private Optional<Vector3i> getSafeLocation(ServerWorld world, Iterator<Vector3i> positionsToCheck, int floorDistanceCheck,
             Collection<TeleportHelperFilter> filters) {
         // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
-
-        return positionsToCheck.filter(currentTarget -> {
-            List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
-            for (TeleportHelperFilter filter : filters) {
-                // If any return Tristate.FALSE, we're not safe.
-                Tristate isValid = filter.isValidLocation(world, currentTarget);
-                if (isValid == Tristate.FALSE) {
-                    // Completely fails the AND check at this point.
-                    return false;
-                }
+        final BlockCache blockCache = new BlockCache((ServerLevel) world);
 
-                if (isValid == Tristate.UNDEFINED) {
-                    undefinedResults.add(filter);
-                }
+        while (positionsToCheck.hasNext()) {
+            final Vector3i currentTarget = positionsToCheck.next();
+            if (this.isSafeLocation(world, currentTarget, floorDistanceCheck, filters, blockCache)) {
+                return Optional.of(currentTarget);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean isSafeLocation(ServerWorld world, Vector3i currentTarget, int floorDistanceCheck, Collection<TeleportHelperFilter> filters,
+            BlockCache blockCache) {
+        List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
+        for (TeleportHelperFilter filter : filters) {
+            // If any return Tristate.FALSE, we're not safe.
+            Tristate isValid = filter.isValidLocation(world, currentTarget);
+            if (isValid == Tristate.FALSE) {
+                // Completely fails the AND check at this point.
+                return false;
             }
 
-            // If we don't have any undefined results, then we return true here.
-            if (undefinedResults.isEmpty()) {
-                return true;
+            if (isValid == Tristate.UNDEFINED) {
+                undefinedResults.add(filter);
             }
+        }
 
-            // Get the block, add it to the cache.
-            BlockData block = this.getBlockData(currentTarget, world, blockCache, undefinedResults);
+        // If we don't have any undefined results, then we return true here.
+        if (undefinedResults.isEmpty()) {
+            return true;
+        }
 
-            // If the block isn't safe, no point in continuing on this run.
-            if (block.isSafeBody) {
+        // Get the block, add it to the cache.
+        BlockData block = this.getBlockData(currentTarget.x(), currentTarget.y(), currentTarget.z(), world, blockCache, undefinedResults);
 
-                // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
-                if (this.getBlockData(
-                    currentTarget.add(0, 1, 0), world, blockCache, undefinedResults).isSafeBody
-                        && (floorDistanceCheck <= 0 || this.isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck))) {
+        // If the block isn't safe, no point in continuing on this run.
+        if (block.isSafeBody) {
 
-                    // This position should be safe. Get the center of the block to spawn into.
-                    return true;
-                }
-            }
+            // Check the block ABOVE is safe for the body, and the two BELOW are safe too.
+            return this.getBlockData(currentTarget.x(), currentTarget.y() + 1, currentTarget.z(), world, blockCache, undefinedResults).isSafeBody
+                    && (floorDistanceCheck <= 0 || this.isFloorSafe(currentTarget, world, blockCache, undefinedResults, floorDistanceCheck));
+        }
 
-            return false;
-        }).findFirst();
+        return false;
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
+    private boolean isFloorSafe(Vector3i currentTarget, World world, BlockCache blockCache, Collection<TeleportHelperFilter> filters,
             int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
-            BlockData data = this.getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
+            BlockData data = this.getBlockData(currentTarget.x(), currentTarget.y() - i, currentTarget.z(), world, blockCache, filters);
 
             // If it's a safe floor, we can just say yes now.
             if (data.isSafeFloor) {
@@ -178,25 +171,77 @@ private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, B
         }
 
         // Check the next block down, if it's a floor, then we're good to go, otherwise we'd fall too far for our liking.
-        return this.getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
+        return this.getBlockData(currentTarget.x(), currentTarget.y() - floorDistanceCheck, currentTarget.z(), world, blockCache, filters).isSafeFloor;
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
-        if (vector3i.y() < 0) {
+    private BlockData getBlockData(int x, int y, int z, World world, BlockCache cache, Collection<TeleportHelperFilter> filters) {
+        if (y < 0) {
             // Anything below this isn't safe, no point going further.
-            return new BlockData();
+            return BlockData.UNSAFE;
+        }
+
+        if (cache.level.isOutsideBuildHeight(y)) {
+            return new BlockData(world.block(x, y, z), filters);
+        }
+        return cache.get(x, y, z, filters);
+    }
+
+    /**
+     * Caches block lookups per chunk section. The search moves outwards from
+     * its centre, so most lookups stay in the section of the previous one and
+     * skip both the map and the chunk lookup.
+     */
+    private static final class BlockCache {
+
+        final ServerLevel level;
+        private final Long2ObjectMap<Section> sections = new Long2ObjectOpenHashMap<>();
+        private long lastKey;
+        private @Nullable Section last;
+
+        BlockCache(final ServerLevel level) {
+            this.level = level;
+        }
+
+        BlockData get(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters) {
+            final long key = SectionPos.asLong(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(y), SectionPos.blockToSectionCoord(z));
+            Section section = this.last;
+            if (section == null || this.lastKey != key) {
+                section = this.sections.get(key);
+                if (section == null) {
+                    final LevelChunk chunk = this.level.getChunk(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
+                    section = new Section(chunk.getSection(chunk.getSectionIndex(y)));
+                    this.sections.put(key, section);
+                }
+                this.last = section;
+                this.lastKey = key;
+            }
+            return section.get(x & 15, y & 15, z & 15, filters);
         }
+    }
+
+    private static final class Section {
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
+        private final LevelChunkSection blocks;
+        private final BlockData[] data = new BlockData[16 * 16 * 16];
+
+        Section(final LevelChunkSection blocks) {
+            this.blocks = blocks;
         }
 
-        BlockData data = new BlockData(world.block(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
+        BlockData get(final int x, final int y, final int z, final Collection<TeleportHelperFilter> filters) {
+            final int index = (y << 8) | (z << 4) | x;
+            BlockData data = this.data[index];
+            if (data == null) {
+                data = new BlockData((BlockState) this.blocks.getBlockState(x, y, z), filters);
+                this.data[index] = data;
+            }
+            return data;
+        }
     }
 
-    private class BlockData {
+    private static final class BlockData {
+
+        static final BlockData UNSAFE = new BlockData();
 
         private final boolean isSafeFloor;
         private final boolean isSafeBody;
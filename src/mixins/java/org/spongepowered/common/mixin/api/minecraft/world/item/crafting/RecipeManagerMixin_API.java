@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.api.minecraft.world.item.crafting;
 
+import com.google.common.collect.Multimap;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.Container;
 import net.minecraft.world.item.crafting.RecipeHolder;
@@ -31,8 +32,11 @@
 import net.minecraft.world.item.crafting.RecipeManager.CachedCheck;
 import net.minecraft.world.item.crafting.SingleRecipeInput;
 import net.minecraft.world.level.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.item.ItemType;
 import org.spongepowered.api.item.inventory.ItemStackLike;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.item.recipe.Recipe;
 import org.spongepowered.api.item.recipe.RecipeManager;
 import org.spongepowered.api.item.recipe.RecipeType;
@@ -43,10 +47,14 @@
 import org.spongepowered.common.inventory.util.InventoryUtil;
 import org.spongepowered.common.item.util.ItemStackUtil;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Mixin(net.minecraft.world.item.crafting.RecipeManager.class)
 public abstract class RecipeManagerMixin_API implements RecipeManager {
@@ -56,9 +64,15 @@ public abstract class RecipeManagerMixin_API implements RecipeManager {
     @Shadow protected abstract <I extends RecipeInput, T extends net.minecraft.world.item.crafting.Recipe<I>> Collection<RecipeHolder<T>> shadow$byType(net.minecraft.world.item.crafting.RecipeType<T> recipeTypeIn);
     @Shadow public abstract Collection<net.minecraft.world.item.crafting.Recipe<?>> shadow$getRecipes();
     @Shadow public abstract <I extends RecipeInput, T extends net.minecraft.world.item.crafting.Recipe<I>> Optional<T> shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType<T> recipeTypeIn, I inventoryIn, net.minecraft.world.level.Level worldIn);
+    @Shadow private Multimap<net.minecraft.world.item.crafting.RecipeType<?>, RecipeHolder<?>> byType;
 
     // @formatter:on
 
+    // Rebuilt lazily whenever vanilla replaces its recipe map, which happens on every reload
+    private @Nullable Multimap<net.minecraft.world.item.crafting.RecipeType<?>, RecipeHolder<?>> api$indexedRecipes;
+    private final Map<RecipeType<?>, Map<ItemType, List<Recipe<?>>>> api$recipesByResult = new ConcurrentHashMap<>();
+    private final Map<RecipeType<?>, CachedCheck<?, ?>> api$checks = new ConcurrentHashMap<>();
+
     @Override
     public Optional<Recipe<?>> byKey(final ResourceKey key) {
         Objects.requireNonNull(key);
@@ -79,12 +93,36 @@ public <T extends Recipe<?>> Collection<T> allOfType(final RecipeType<T> type) {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T extends Recipe<?>> Collection<T> findByResult(final RecipeType<T> type, final ItemStackLike result) {
         Objects.requireNonNull(type);
         Objects.requireNonNull(result);
-        return this.allOfType(type).stream()
-                .filter(r -> r.exemplaryResult().equals(result.asImmutable()))
-                .collect(Collectors.toList());
+        final ItemStackSnapshot snapshot = result.asImmutable();
+        final List<Recipe<?>> candidates = this.api$recipesByResult(type).getOrDefault(snapshot.type(), List.of());
+        final List<T> found = new ArrayList<>();
+        for (final Recipe<?> recipe : candidates) {
+            if (recipe.exemplaryResult().equals(snapshot)) {
+                found.add((T) recipe);
+            }
+        }
+        return found;
+    }
+
+    @SuppressWarnings(value = {"unchecked", "rawtypes"})
+    private Map<ItemType, List<Recipe<?>>> api$recipesByResult(final RecipeType<?> type) {
+        final Multimap<net.minecraft.world.item.crafting.RecipeType<?>, RecipeHolder<?>> recipes = this.byType;
+        if (this.api$indexedRecipes != recipes) {
+            this.api$recipesByResult.clear();
+            this.api$indexedRecipes = recipes;
+        }
+        return this.api$recipesByResult.computeIfAbsent(type, t -> {
+            final Map<ItemType, List<Recipe<?>>> index = new HashMap<>();
+            for (final RecipeHolder<?> holder : recipes.get((net.minecraft.world.item.crafting.RecipeType) t)) {
+                final Recipe<?> recipe = (Recipe<?>) holder.value();
+                index.computeIfAbsent(recipe.exemplaryResult().type(), k -> new ArrayList<>()).add(recipe);
+            }
+            return index;
+        });
     }
 
     @Override
@@ -97,8 +135,9 @@ public <I extends org.spongepowered.api.item.recipe.crafting.RecipeInput, T exte
             return Optional.empty();
         }
 
-        final var mcRecipeType = (net.minecraft.world.item.crafting.RecipeType) type;
-        final var checker = net.minecraft.world.item.crafting.RecipeManager.createCheck(mcRecipeType);
+        // The check remembers the last matched recipe, so keep one per type rather than creating one per lookup
+        final var checker = (CachedCheck) this.api$checks.computeIfAbsent(type,
+                t -> net.minecraft.world.item.crafting.RecipeManager.createCheck((net.minecraft.world.item.crafting.RecipeType) t));
         final var level = (Level) world;
 
         return InventoryUtil.toCraftingInput(inventory).flatMap(in -> RecipeManagerMixin_API.impl$getRecipe(level, checker, in));
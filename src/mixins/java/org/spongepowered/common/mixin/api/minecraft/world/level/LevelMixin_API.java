@@ -27,9 +27,14 @@
 import net.kyori.adventure.sound.Sound;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundSoundPacket;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
 import net.minecraft.util.Tuple;
 import net.minecraft.world.level.BlockAndTintGetter;
 import net.minecraft.world.level.Level;
@@ -47,6 +52,7 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.block.entity.BlockEntity;
 import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.effect.particle.ParticleEffect;
 import org.spongepowered.api.effect.sound.music.MusicDisc;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntityType;
@@ -77,6 +83,7 @@
 import org.spongepowered.common.bridge.effect.ViewerBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.effect.SpongeForwardingViewer;
+import org.spongepowered.common.effect.util.ViewerBroadcastUtil;
 import org.spongepowered.common.effect.util.ViewerPacketUtil;
 import org.spongepowered.common.entity.SpongeEntityTypes;
 import org.spongepowered.common.registry.RegistryHolderLogic;
@@ -241,31 +248,60 @@ public Context context() {
 
     // Viewer
 
+    @Override
+    public void spawnParticles(final ParticleEffect particleEffect, final double x, final double y, final double z) {
+        this.api$sendToTracking(Mth.floor(x), Mth.floor(z), ViewerPacketUtil.spawnParticles(particleEffect, x, y, z));
+    }
+
     @Override
     public void playMusicDisc(final int x, final int y, final int z, final MusicDisc musicDisc) {
-        ((ViewerBridge) this).bridge$sendToViewer(ViewerPacketUtil.playMusicDisc(x, y, z, musicDisc, ((LevelAccessor) this).registryAccess()));
+        this.api$sendToTracking(x, z, ViewerPacketUtil.playMusicDisc(x, y, z, musicDisc, ((LevelAccessor) this).registryAccess()));
+    }
+
+    @Override
+    public void stopMusicDisc(final int x, final int y, final int z) {
+        this.api$sendToTracking(x, z, ViewerPacketUtil.stopMusicDisc(x, y, z));
+    }
+
+    @Override
+    public void sendBlockChange(final int x, final int y, final int z, final org.spongepowered.api.block.BlockState state) {
+        this.api$sendToTracking(x, z, ViewerPacketUtil.blockUpdate(x, y, z, state));
     }
 
     @Override
     public void resetBlockChange(final int x, final int y, final int z) {
-        ((ViewerBridge) this).bridge$sendToViewer(ViewerPacketUtil.blockUpdate(x, y, z, this));
+        this.api$sendToTracking(x, z, ViewerPacketUtil.blockUpdate(x, y, z, this));
     }
 
     @Override
     public void sendBlockProgress(final int x, final int y, final int z, final double progress) {
-        ((ViewerBridge) this).bridge$sendToViewer(ViewerPacketUtil.blockProgress(x, y, z, progress, this.engine()));
+        this.api$sendToTracking(x, z, ViewerPacketUtil.blockProgress(x, y, z, progress, this.engine()));
     }
 
     @Override
     public void resetBlockProgress(final int x, final int y, final int z) {
-        ViewerPacketUtil.resetBlockProgress(x, y, z, this.engine()).ifPresent(((ViewerBridge) this)::bridge$sendToViewer);
+        ViewerPacketUtil.resetBlockProgress(x, y, z, this.engine()).ifPresent(packet -> this.api$sendToTracking(x, z, packet));
+    }
+
+    private void api$sendToTracking(final int x, final int z, final Packet<ClientGamePacketListener> packet) {
+        // Only players that have the chunk loaded can see the effect
+        if ((Object) this instanceof final ServerLevel level) {
+            ViewerBroadcastUtil.sendToTracking(level, x, z, packet);
+        } else {
+            ((ViewerBridge) this).bridge$sendToViewer(packet);
+        }
     }
 
     // Audience
 
     @Override
     public void playSound(final Sound sound, final double x, final double y, final double z) {
-        ((ViewerBridge) this).bridge$sendToViewer(ViewerPacketUtil.playSound(sound, this.random, x, y, z));
+        final ClientboundSoundPacket packet = ViewerPacketUtil.playSound(sound, this.random, x, y, z);
+        if ((Object) this instanceof final ServerLevel level) {
+            ViewerBroadcastUtil.playSound(level, packet);
+        } else {
+            ((ViewerBridge) this).bridge$sendToViewer(packet);
+        }
     }
 
     // BlockEntityVolume
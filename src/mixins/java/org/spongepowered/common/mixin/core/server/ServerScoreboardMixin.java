@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.core.server;
 
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundResetScorePacket;
 import net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket;
 import net.minecraft.network.protocol.game.ClientboundSetObjectivePacket;
 import net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket;
@@ -46,18 +47,22 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.world.scores.PlayerTeamAccessor;
 import org.spongepowered.common.accessor.world.scores.ScoreboardAccessor;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.server.ServerScoreboardBridge;
 import org.spongepowered.common.bridge.world.scores.ObjectiveBridge;
+import org.spongepowered.common.scoreboard.ScoreUpdateQueue;
 import org.spongepowered.common.scoreboard.SpongeObjective;
 import org.spongepowered.common.scoreboard.SpongeScore;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -71,7 +76,8 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
     @Shadow @Final private Set<net.minecraft.world.scores.Objective> trackedObjectives;
     // @formatter:on
 
-    private final List<ServerPlayer> impl$players = new ArrayList<>();
+    private final Set<ServerPlayer> impl$players = new LinkedHashSet<>();
+    private final ScoreUpdateQueue impl$scoreUpdates = new ScoreUpdateQueue();
 
     private boolean impl$apiCall;
 
@@ -186,6 +192,22 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$sendToPlayers(final Packet<?> packet) {
+        // Keep queued score changes ahead of anything sent after them
+        this.bridge$flushScoreUpdates();
+        if (packet instanceof final ClientboundResetScorePacket reset) {
+            this.impl$scoreUpdates.reset(reset);
+        }
+        this.impl$send(packet);
+    }
+
+    @Override
+    public void bridge$flushScoreUpdates() {
+        for (final Packet<?> packet : this.impl$scoreUpdates.drain()) {
+            this.impl$send(packet);
+        }
+    }
+
+    private void impl$send(final Packet<?> packet) {
         for (final ServerPlayer player: this.impl$players) {
             player.connection.send(packet);
         }
@@ -193,6 +215,8 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$addPlayer(final ServerPlayer player, final boolean sendPackets) {
+        // The new player receives the current state, the other viewers need to catch up first
+        this.bridge$flushScoreUpdates();
         this.impl$players.add(player);
         if (sendPackets) {
             for (final PlayerTeam team : this.getPlayerTeams()) {
@@ -221,6 +245,7 @@ public abstract class ServerScoreboardMixin extends Scoreboard implements Server
 
     @Override
     public void bridge$removePlayer(final ServerPlayer player, final boolean sendPackets) {
+        this.bridge$flushScoreUpdates();
         this.impl$players.remove(player);
         if (sendPackets) {
             this.impl$removeScoreboard(player);
@@ -236,7 +261,9 @@ public void removePlayerTeam(final PlayerTeam team) {
     @Redirect(method = "onScoreChanged",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/server/players/PlayerList;broadcastAll(Lnet/minecraft/network/protocol/Packet;)V"))
     private void onUpdateScoreValue(final PlayerList manager, final Packet<?> packet) {
-        this.bridge$sendToPlayers(packet);
+        if (this.impl$scoreUpdates.queue((ClientboundSetScorePacket) packet)) {
+            SpongeCommon.serverScheduler().markScoreboardDirty(this);
+        }
     }
 
     @Redirect(method = "onPlayerRemoved",
@@ -293,6 +320,12 @@ private void onUpdateScoreValue(final PlayerList manager, final Packet<?> packet
         this.bridge$sendToPlayers(packet);
     }
 
+    @Inject(method = {"startTrackingObjective", "stopTrackingObjective"}, at = @At("HEAD"))
+    private void impl$flushScoresBeforeTrackingChange(final net.minecraft.world.scores.Objective objective, final CallbackInfo ci) {
+        this.bridge$flushScoreUpdates();
+        this.impl$scoreUpdates.resetObjective(objective.getName());
+    }
+
     @Redirect(method = "startTrackingObjective",
         at = @At(value = "INVOKE", target = "Ljava/util/List;iterator()Ljava/util/Iterator;", ordinal = 0, remap = false))
     private Iterator impl$useOurScoreboardForPlayers(final List list) {
@@ -83,6 +83,11 @@ public abstract class ChunkMapMixin implements ChunkMapBridge {
         return (DistanceManagerBridge) ((ServerChunkCacheAccessor) this.level.getChunkSource()).accessor$distanceManager();
     }
 
+    @Inject(method = "tick()V", at = @At("TAIL"))
+    private void impl$flushHumanPairings(final CallbackInfo ci) {
+        SpongeCommon.serverScheduler().humanPairings().flush();
+    }
+
     @Inject(method = "<init>", at = @At("RETURN"))
     private void impl$setIOWorkerDimension(final CallbackInfo ci) {
         ((IOWorkerBridge) ((ChunkStorageAccessor) this).accessor$worker()).bridge$setDimension(SpongeIOWorkerType.CHUNK, this.level.dimension());
@@ -137,6 +142,8 @@ public abstract class ChunkMapMixin implements ChunkMapBridge {
         }
 
         level.unload(chunk);
+        // The chunk has been saved at this point, so drop its tracked positions in bulk
+        ((LevelChunkBridge) chunk).bridge$getTrackedBlockPositions().clear();
 
         for (final Direction dir : Constants.Chunk.CARDINAL_DIRECTIONS) {
             final int index = DirectionUtil.directionToIndex(dir);
@@ -40,6 +40,7 @@
 import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.world.entity.LivingEntityAccessor;
 import org.spongepowered.common.bridge.data.VanishableBridge;
 import org.spongepowered.common.bridge.server.level.ServerPlayerBridge;
@@ -89,6 +90,18 @@ public abstract class ServerEntityMixin {
         };
     }
 
+    // Humans becoming visible to a player are queued and paired once entity
+    // tracking is done for the tick, so that all of them share a single tab
+    // list update and spawn bundle rather than sending one set of packets each.
+    @Inject(method = "addPairing", at = @At("HEAD"), cancellable = true)
+    private void impl$queueHumanPairing(final ServerPlayer player, final CallbackInfo ci) {
+        if (!(this.entity instanceof final HumanEntity human)) {
+            return;
+        }
+        SpongeCommon.serverScheduler().humanPairings().pair(player, human, (ServerEntity) (Object) this);
+        ci.cancel();
+    }
+
     @Inject(method = "removePairing", at = @At("RETURN"))
     private void impl$removeHumanFromPlayerClient(final ServerPlayer viewer, final CallbackInfo ci) {
         if (this.entity instanceof HumanEntity) {
@@ -25,9 +25,11 @@
 package org.spongepowered.common.mixin.core.server.level;
 
 import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoRemovePacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoUpdatePacket;
 import net.minecraft.server.level.ServerEntity;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -55,7 +57,8 @@ public class ServerEntityMixin_Shared {
         method = "sendPairingData",
         at = @At(value = "INVOKE", target = "Ljava/util/function/Consumer;accept(Ljava/lang/Object;)V", ordinal = 0)
     )
-    public void impl$sendHumanSpawnPacket(final Consumer<Packet<?>> consumer, final Object spawnPacket) {
+    public void impl$sendHumanSpawnPacket(final Consumer<Packet<?>> consumer, final Object spawnPacket,
+        final ServerPlayer player, final Consumer<Packet<ClientGamePacketListener>> pairingConsumer) {
         if (!(this.entity instanceof final HumanEntity human)) {
             consumer.accept((Packet<?>) spawnPacket);
             return;
@@ -70,7 +73,7 @@ public class ServerEntityMixin_Shared {
             consumer.accept(removePacket);
         } else {
             // Human is a Player entity on the client and needs to tick once for the skin to render
-            human.removeFromTabListDelayed(null, removePacket);
+            human.removeFromTabListDelayed(player, removePacket);
         }
     }
 }
@@ -106,6 +106,7 @@
 import org.spongepowered.common.bridge.world.level.dimension.DimensionTypeBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.bridge.world.ticks.LevelTicksBridge;
+import org.spongepowered.common.event.MoveEntityEventFilter;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -151,6 +152,7 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerLevel
     private Weather impl$prevWeather;
     private boolean impl$isManualSave = false;
     private long impl$preTickTime = 0L;
+    private @Nullable MoveEntityEventFilter impl$moveEntityEventFilter;
 
     @Inject(method = "<init>", at = @At("TAIL"))
     private void impl$cacheLevelSave(final MinecraftServer $$0, final Executor $$1, final LevelStorageSource.LevelStorageAccess $$2, final ServerLevelData $$3,
@@ -307,6 +309,14 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerLevel
         return this.impl$recentTickTimes;
     }
 
+    @Override
+    public MoveEntityEventFilter bridge$moveEntityEventFilter() {
+        // Recompiled whenever the config is reloaded, as reloading replaces the category instance
+        this.impl$moveEntityEventFilter = MoveEntityEventFilter.compile(this.impl$moveEntityEventFilter,
+            ((PrimaryLevelDataBridge) this.shadow$getLevelData()).bridge$configAdapter().get().movementEvents);
+        return this.impl$moveEntityEventFilter;
+    }
+
     @Redirect(method = "saveLevelData", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/MinecraftServer;getWorldData()Lnet/minecraft/world/level/storage/WorldData;"))
     private WorldData impl$usePerWorldLevelDataForDragonFight(final MinecraftServer server) {
         return (WorldData) this.shadow$getLevelData();
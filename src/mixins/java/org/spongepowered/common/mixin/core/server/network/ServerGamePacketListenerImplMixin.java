@@ -40,6 +40,7 @@
 import net.minecraft.network.protocol.game.ClientboundBlockUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundCommandSuggestionsPacket;
 import net.minecraft.network.protocol.game.ClientboundMoveVehiclePacket;
+import net.minecraft.network.protocol.game.ClientboundPlayerInfoRemovePacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoUpdatePacket;
 import net.minecraft.network.protocol.game.ServerboundChatCommandSignedPacket;
 import net.minecraft.network.protocol.game.ServerboundCommandSuggestionPacket;
@@ -143,6 +144,8 @@ public abstract class ServerGamePacketListenerImplMixin extends ServerCommonPack
         super.impl$modifyClientBoundPacket(packet);
         if (packet instanceof ClientboundPlayerInfoUpdatePacket infoPacket) {
             ((SpongeTabList) ((ServerPlayer) this.player).tabList()).updateEntriesOnSend(infoPacket);
+        } else if (packet instanceof ClientboundPlayerInfoRemovePacket removePacket) {
+            ((SpongeTabList) ((ServerPlayer) this.player).tabList()).removeEntriesOnSend(removePacket);
         }
     }
 
@@ -44,7 +44,6 @@
 import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
 import org.spongepowered.common.bridge.world.entity.item.ItemEntityBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
-import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.data.provider.entity.ItemData;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -61,23 +60,12 @@ public abstract class ItemEntityMixin extends EntityMixin implements ItemEntityB
     @Shadow public abstract ItemStack shadow$getItem();
     // @formatter:on
 
-    /**
-     * A simple cached value of the merge radius for this item.
-     * Since the value is configurable, the first time searching for
-     * other items, this value is cached.
-     */
-    private double impl$cachedRadius = -1;
-
     @ModifyConstant(method = "mergeWithNeighbours", constant = @Constant(doubleValue = Constants.Entity.Item.DEFAULT_ITEM_MERGE_RADIUS))
     private double impl$changeSearchRadiusFromConfig(final double originalRadius) {
         if (this.shadow$level().isClientSide || ((LevelBridge) this.shadow$level()).bridge$isFake()) {
             return originalRadius;
         }
-        if (this.impl$cachedRadius == -1) {
-            final double configRadius = ((PrimaryLevelDataBridge) this.shadow$level().getLevelData()).bridge$configAdapter().get().world.itemMergeRadius;
-            this.impl$cachedRadius = configRadius < 0 ? 0 : configRadius;
-        }
-        return this.impl$cachedRadius;
+        return SpongeGameConfigs.getSnapshotForWorld(this.shadow$level()).itemMergeRadius();
     }
 
     @Override
@@ -98,7 +86,7 @@ public abstract class ItemEntityMixin extends EntityMixin implements ItemEntityB
     @Override
     public int bridge$getDespawnDelay() {
         return this.age != Constants.Entity.Item.MAGIC_NO_DESPAWN
-                ? SpongeGameConfigs.getForWorld(this.shadow$level()).get().entity.item.despawnRate - this.age
+                ? SpongeGameConfigs.getSnapshotForWorld(this.shadow$level()).itemDespawnRate() - this.age
                 : this.age;
     }
 
@@ -108,7 +96,7 @@ public abstract class ItemEntityMixin extends EntityMixin implements ItemEntityB
             this.age = Constants.Entity.Item.MAGIC_NO_DESPAWN;
             ((SpongeDataHolderBridge) this).bridge$offer(ItemData.INFINITE_DESPAWN_DELAY, true);
         } else {
-            this.age = SpongeGameConfigs.getForWorld(this.shadow$level()).get().entity.item.despawnRate - delay;
+            this.age = SpongeGameConfigs.getSnapshotForWorld(this.shadow$level()).itemDespawnRate() - delay;
             ((SpongeDataHolderBridge) this).bridge$remove(ItemData.INFINITE_DESPAWN_DELAY);
         }
     }
@@ -132,7 +120,7 @@ public abstract class ItemEntityMixin extends EntityMixin implements ItemEntityB
 
     @ModifyConstant(method = "isMergable", constant = @Constant(intValue = 6000))
     private int impl$isMergableUseDespawnRateFromConfig(final int originalValue) {
-        return SpongeGameConfigs.getForWorld(this.shadow$level()).get().entity.item.despawnRate;
+        return SpongeGameConfigs.getSnapshotForWorld(this.shadow$level()).itemDespawnRate();
     }
 
     @Inject(method = "tryToMerge", cancellable = true,
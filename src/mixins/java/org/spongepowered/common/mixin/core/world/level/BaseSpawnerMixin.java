@@ -25,8 +25,6 @@
 package org.spongepowered.common.mixin.core.world.level;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.entity.EntitySelector;
-import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.BaseSpawner;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.SpawnData;
@@ -35,8 +33,8 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
-import org.spongepowered.common.bridge.world.entity.player.PlayerBridge;
 import org.spongepowered.common.bridge.world.level.BaseSpawnerBridge;
+import org.spongepowered.common.bridge.world.level.LevelBridge;
 
 @Mixin(BaseSpawner.class)
 public abstract class BaseSpawnerMixin implements BaseSpawnerBridge {
@@ -110,17 +108,6 @@ public abstract class BaseSpawnerMixin implements BaseSpawnerBridge {
             target = "Lnet/minecraft/world/level/Level;hasNearbyAlivePlayer(DDDD)Z"))
     public boolean impl$checkPlayerSpawningStateForActivation(final Level world, final double x, final double y, final double z, final double distance) {
         // Like vanilla but filter out players with !bridge$affectsSpawning
-        for (final Player playerentity : world.players()) {
-            if (EntitySelector.NO_SPECTATORS.test(playerentity)
-                  && EntitySelector.LIVING_ENTITY_STILL_ALIVE.test(playerentity)
-                  && ((PlayerBridge) playerentity).bridge$affectsSpawning()) {
-                final double d0 = playerentity.distanceToSqr(x, y, z);
-                if (distance < 0.0D || d0 < distance * distance) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return ((LevelBridge) world).bridge$spawningPlayers().hasNearbySpawningPlayer(x, y, z, distance);
     }
 }
@@ -24,7 +24,11 @@
  */
 package org.spongepowered.common.mixin.core.world.level;
 
-import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
@@ -39,7 +43,6 @@
 import net.minecraft.world.level.ExplosionDamageCalculator;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.spongepowered.api.event.Cause;
@@ -66,7 +69,6 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.StringJoiner;
 
 @Mixin(net.minecraft.world.level.Explosion.class)
@@ -139,48 +141,7 @@ public void explode() {
 
         // Sponge Start - If the explosion should not break blocks, don't bother calculating it on server thread
         if (this.impl$shouldBreakBlocks) {
-            final Set<BlockPos> set = Sets.newHashSet();
-            final int i = 16;
-
-            for (int j = 0; j < 16; ++j) {
-                for (int k = 0; k < 16; ++k) {
-                    for (int l = 0; l < 16; ++l) {
-                        if (j == 0 || j == 15 || k == 0 || k == 15 || l == 0 || l == 15) {
-                            double d0 = (double) ((float) j / 15.0F * 2.0F - 1.0F);
-                            double d1 = (double) ((float) k / 15.0F * 2.0F - 1.0F);
-                            double d2 = (double) ((float) l / 15.0F * 2.0F - 1.0F);
-                            final double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
-                            d0 = d0 / d3;
-                            d1 = d1 / d3;
-                            d2 = d2 / d3;
-                            float f = this.radius * (0.7F + this.level.random.nextFloat() * 0.6F);
-                            double d4 = this.x;
-                            double d6 = this.y;
-                            double d8 = this.z;
-
-                            for (final float f1 = 0.3F; f > 0.0F; f -= 0.22500001F) {
-                                final BlockPos blockpos = new BlockPos((int) d4, (int) d6, (int) d8);
-                                final BlockState blockstate = this.level.getBlockState(blockpos);
-                                final FluidState fluidstate = this.level.getFluidState(blockpos);
-                                final Optional<Float> optional = this.damageCalculator.getBlockExplosionResistance((net.minecraft.world.level.Explosion) (Object) this, this.level, blockpos, blockstate, fluidstate);
-                                if (optional.isPresent()) {
-                                    f -= (optional.get() + 0.3F) * 0.3F;
-                                }
-
-                                if (f > 0.0F && this.damageCalculator.shouldBlockExplode((net.minecraft.world.level.Explosion) (Object) this, this.level, blockpos, blockstate, f)) {
-                                    set.add(blockpos);
-                                }
-
-                                d4 += d0 * (double) 0.3F;
-                                d6 += d1 * (double) 0.3F;
-                                d8 += d2 * (double) 0.3F;
-                            }
-                        }
-                    }
-                }
-            }
-
-            this.toBlow.addAll(set);
+            this.impl$collectBlocksToBlow();
         }
         // Sponge End
 
@@ -277,6 +238,83 @@ public void explode() {
         }
     }
 
+    /**
+     * Casts the rays of the explosion, like vanilla does, but on a shell of
+     * {@link #impl$resolution} rays per side with {@link #impl$randomness}
+     * scaling the random power of every ray. Neighbouring rays mostly cross
+     * the same blocks, so the state and resistance of every position are only
+     * looked up once per explosion.
+     */
+    private void impl$collectBlocksToBlow() {
+        final net.minecraft.world.level.Explosion explosion = (net.minecraft.world.level.Explosion) (Object) this;
+        final int resolution = Math.max(this.impl$resolution, 2);
+        final int last = resolution - 1;
+        final float edge = last;
+        final LongSet blown = new LongOpenHashSet();
+        final Long2ObjectMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+        final Long2ObjectMap<Optional<Float>> resistances = new Long2ObjectOpenHashMap<>();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (int j = 0; j < resolution; ++j) {
+            for (int k = 0; k < resolution; ++k) {
+                for (int l = 0; l < resolution; ++l) {
+                    if (j == 0 || j == last || k == 0 || k == last || l == 0 || l == last) {
+                        double d0 = (double) ((float) j / edge * 2.0F - 1.0F);
+                        double d1 = (double) ((float) k / edge * 2.0F - 1.0F);
+                        double d2 = (double) ((float) l / edge * 2.0F - 1.0F);
+                        final double d3 = Math.sqrt(d0 * d0 + d1 * d1 + d2 * d2);
+                        d0 = d0 / d3;
+                        d1 = d1 / d3;
+                        d2 = d2 / d3;
+                        float f = this.radius * this.impl$randomPower();
+                        double d4 = this.x;
+                        double d6 = this.y;
+                        double d8 = this.z;
+
+                        for (; f > 0.0F; f -= 0.22500001F) {
+                            pos.set(Mth.floor(d4), Mth.floor(d6), Mth.floor(d8));
+                            if (!this.level.isInWorldBounds(pos)) {
+                                break;
+                            }
+                            final long key = pos.asLong();
+                            BlockState blockstate = states.get(key);
+                            if (blockstate == null) {
+                                blockstate = this.level.getBlockState(pos);
+                                states.put(key, blockstate);
+                                resistances.put(key, this.damageCalculator.getBlockExplosionResistance(explosion, this.level, pos, blockstate, this.level.getFluidState(pos)));
+                            }
+                            final Optional<Float> optional = resistances.get(key);
+                            if (optional.isPresent()) {
+                                f -= (optional.get() + 0.3F) * 0.3F;
+                            }
+
+                            if (f > 0.0F && !blown.contains(key) && this.damageCalculator.shouldBlockExplode(explosion, this.level, pos, blockstate, f)) {
+                                blown.add(key);
+                            }
+
+                            d4 += d0 * (double) 0.3F;
+                            d6 += d1 * (double) 0.3F;
+                            d8 += d2 * (double) 0.3F;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (final LongIterator iterator = blown.iterator(); iterator.hasNext(); ) {
+            this.toBlow.add(BlockPos.of(iterator.nextLong()));
+        }
+    }
+
+    private float impl$randomPower() {
+        final float random = this.level.random.nextFloat();
+        if (this.impl$randomness == 1.0F) {
+            return 0.7F + random * 0.6F;
+        }
+        // Keep the vanilla average power while narrowing or widening its spread
+        return 1.0F + (random - 0.5F) * 0.6F * this.impl$randomness;
+    }
+
     @Override
     public boolean bridge$getShouldDamageBlocks() {
         return this.impl$shouldBreakBlocks;
@@ -78,6 +78,7 @@
 import org.spongepowered.common.entity.projectile.UnknownProjectileSource;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DataUtil;
+import org.spongepowered.common.world.level.SpawningPlayerIndex;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.util.List;
@@ -108,12 +109,21 @@ public abstract class LevelMixin implements LevelBridge, LevelAccessor {
     //@Shadow protected abstract void shadow$postGameEventInRadius(@javax.annotation.Nullable net.minecraft.world.entity.Entity $$0, GameEvent $$1, BlockPos $$2, int $$3);
     // @formatter on
 
+    private @Nullable SpawningPlayerIndex impl$spawningPlayers;
 
     @Override
     public boolean bridge$isFake() {
         return this.isClientSide();
     }
 
+    @Override
+    public SpawningPlayerIndex bridge$spawningPlayers() {
+        if (this.impl$spawningPlayers == null) {
+            this.impl$spawningPlayers = new SpawningPlayerIndex((Level) (Object) this);
+        }
+        return this.impl$spawningPlayers;
+    }
+
     @Override
     public void bridge$adjustDimensionLogic(final DimensionType dimensionType) {
         this.dimensionTypeRegistration = Holder.direct(dimensionType);
@@ -34,8 +34,7 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.accessor.world.level.NaturalSpawner_SpawnStateAccessor;
 import org.spongepowered.common.bridge.world.level.NaturalSpawner_SpawnStateBridge;
-import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
-import org.spongepowered.common.config.inheritable.SpawnerCategory;
+import org.spongepowered.common.config.SpongeGameConfigs;
 
 @Mixin(NaturalSpawner.class)
 public abstract class NaturalSpawnerMixin {
@@ -83,22 +82,6 @@ public static void spawnForChunk(final ServerLevel world, final LevelChunk chunk
     }
 
     private static int impl$getSpawningTickRate(final MobCategory classification, final ServerLevel world) {
-        final SpawnerCategory.TickRatesSubCategory tickRates = ((PrimaryLevelDataBridge) world.getLevelData()).bridge$configAdapter().get().spawner.tickRates;
-        switch (classification) {
-            case MONSTER:
-                return tickRates.monster;
-            case CREATURE:
-                return tickRates.creature;
-            case AMBIENT:
-                return tickRates.ambient;
-            case UNDERGROUND_WATER_CREATURE:
-                return tickRates.undergroundAquaticCreature;
-            case WATER_CREATURE:
-                return tickRates.aquaticCreature;
-            case WATER_AMBIENT:
-                return tickRates.aquaticAmbient;
-            default:
-                return -1;
-        }
+        return SpongeGameConfigs.getSnapshotForWorld(world).spawnTickRate(classification);
     }
 }
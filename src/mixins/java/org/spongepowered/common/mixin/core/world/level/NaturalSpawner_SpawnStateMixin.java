@@ -34,7 +34,6 @@
 import org.spongepowered.common.accessor.world.level.NaturalSpawnerAccessor;
 import org.spongepowered.common.bridge.world.level.NaturalSpawner_SpawnStateBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
-import org.spongepowered.common.config.inheritable.SpawnerCategory;
 
 @Mixin(NaturalSpawner.SpawnState.class)
 public abstract class NaturalSpawner_SpawnStateMixin implements NaturalSpawner_SpawnStateBridge {
@@ -46,30 +45,7 @@ public abstract class NaturalSpawner_SpawnStateMixin implements NaturalSpawner_S
 
     @Override
     public boolean bridge$canSpawnForCategoryInWorld(final MobCategory classification, final ServerLevel world) {
-        final SpawnerCategory.SpawnLimitsSubCategory spawnLimits = SpongeGameConfigs.getForWorld(world).get().spawner.spawnLimits;
-        final int maxInstancesPerChunk;
-        switch (classification) {
-            case MONSTER:
-                maxInstancesPerChunk = spawnLimits.monster;
-                break;
-            case CREATURE:
-                maxInstancesPerChunk = spawnLimits.creature;
-                break;
-            case AMBIENT:
-                maxInstancesPerChunk = spawnLimits.ambient;
-                break;
-            case UNDERGROUND_WATER_CREATURE:
-                maxInstancesPerChunk = spawnLimits.undergroundAquaticCreature;
-                break;
-            case WATER_CREATURE:
-                maxInstancesPerChunk = spawnLimits.aquaticCreature;
-                break;
-            case WATER_AMBIENT:
-                maxInstancesPerChunk = spawnLimits.aquaticAmbient;
-                break;
-            default:
-                throw new IllegalStateException("Unexpected value: " + classification);
-        }
+        final int maxInstancesPerChunk = SpongeGameConfigs.getSnapshotForWorld(world).spawnLimit(classification);
         final int i = maxInstancesPerChunk * this.spawnableChunkCount / NaturalSpawnerAccessor.accessor$MAGIC_NUMBER();
         return this.mobCategoryCounts.getInt(classification) < i;
     }
@@ -67,20 +67,16 @@
 import org.spongepowered.common.data.holder.SpongeMutableDataHolder;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.tracking.PhaseTracker;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DirectionUtil;
+import org.spongepowered.common.world.level.chunk.TrackedBlockPositions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.UUID;
-import java.util.function.BiConsumer;
-import java.util.function.Function;
 
 @Mixin(net.minecraft.world.level.chunk.LevelChunk.class)
 public abstract class LevelChunkMixin extends ChunkAccess implements LevelChunkBridge, CacheKeyBridge, SpongeMutableDataHolder, SpongeDataHolderBridge, DataCompoundHolder, BlockChunk {
@@ -99,8 +95,7 @@ public abstract class LevelChunkMixin extends ChunkAccess implements LevelChunkB
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.level.chunk.LevelChunk[] impl$neighbors = new net.minecraft.world.level.chunk.LevelChunk[4];
     private long impl$cacheKey;
-    private Map<Integer, PlayerTracker> impl$trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> impl$trackedShortBlockPositions = new HashMap<>();
+    private TrackedBlockPositions impl$trackedBlockPositions;
     private @Nullable CompoundTag impl$compound;
 
     public LevelChunkMixin(
@@ -121,6 +116,7 @@ public LevelChunkMixin(
                                   final long $$5, final LevelChunkSection[] $$6, final LevelChunk.PostLoadProcessor $$7, final BlendingData $$8,
                                   final CallbackInfo ci) {
         this.impl$cacheKey = ChunkPos.asLong($$1.x, $$1.z);
+        this.impl$trackedBlockPositions = new TrackedBlockPositions(this.getMinSection(), this.getSectionsCount());
     }
 
     @Override
@@ -157,23 +153,8 @@ public LevelChunkMixin(
     // These methods are enabled in ChunkMixin_CreatorTracked as a Mixin plugin
 
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return this.impl$trackedIntBlockPositions;
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return this.impl$trackedShortBlockPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
-        this.impl$trackedIntBlockPositions = trackedPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
-        this.impl$trackedShortBlockPositions = trackedPositions;
+    public TrackedBlockPositions bridge$getTrackedBlockPositions() {
+        return this.impl$trackedBlockPositions;
     }
 
     @Override
@@ -207,90 +188,69 @@ public LevelChunkMixin(
             }
         }
 
+        final int index = this.impl$getIndexForUniqueId(uuid);
         if (trackerType == PlayerTracker.Type.CREATOR) {
-            this.impl$setTrackedUUID(pos, uuid, trackerType, (pt, idx) -> {
-                pt.creatorindex = idx;
-                pt.notifierIndex = idx;
-            });
+            this.impl$trackedBlockPositions.setCreator(pos.getX(), pos.getY(), pos.getZ(), index, true);
         } else {
-            this.impl$setTrackedUUID(pos, uuid, trackerType, (pt, idx) -> pt.notifierIndex = idx);
+            this.impl$trackedBlockPositions.setNotifier(pos.getX(), pos.getY(), pos.getZ(), index);
         }
     }
 
-    public Optional<UUID> bridge$trackedUUID(final BlockPos pos, final Function<PlayerTracker, Integer> func) {
+    private Optional<UUID> impl$trackedUUID(final BlockPos pos, final PlayerTracker.Type type) {
         if (((LevelBridge) this.level).bridge$isFake()) {
             return Optional.empty();
         }
 
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.impl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = func.apply(intTracker);
-            return this.impl$getValidatedUUID(key, ownerIndex);
-        }
-        final short shortKey = Constants.Sponge.blockPosToShort(pos);
-        final PlayerTracker shortTracker = this.impl$trackedShortBlockPositions.get(shortKey);
-        if (shortTracker != null) {
-            final int ownerIndex = func.apply(shortTracker);
-            return this.impl$getValidatedUUID(shortKey, ownerIndex);
+        final long tracked = this.impl$trackedBlockPositions.get(pos.getX(), pos.getY(), pos.getZ());
+        if (tracked == TrackedBlockPositions.NONE) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        final int ownerIndex = type == PlayerTracker.Type.CREATOR
+            ? TrackedBlockPositions.creatorIndex(tracked)
+            : TrackedBlockPositions.notifierIndex(tracked);
+        return this.impl$getValidatedUUID(pos, ownerIndex);
     }
 
     @Override
     public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
-       return this.bridge$trackedUUID(pos, pt -> pt.creatorindex);
+       return this.impl$trackedUUID(pos, PlayerTracker.Type.CREATOR);
     }
 
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
-        return this.bridge$trackedUUID(pos, pt -> pt.notifierIndex);
+        return this.impl$trackedUUID(pos, PlayerTracker.Type.NOTIFIER);
     }
 
-    private <T> void impl$computePlayerTracker(final Map<T, PlayerTracker> map, final T blockPos, final int index, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
-        final PlayerTracker tracker = map.get(blockPos);
-        if (tracker != null) {
-            consumer.accept(tracker, index);
-        } else {
-            map.put(blockPos, new PlayerTracker(index, type));
-        }
+    private int impl$getIndexForUniqueId(final @Nullable UUID uuid) {
+        return uuid == null ? -1 : ((PrimaryLevelDataBridge) this.level.getLevelData()).bridge$getIndexForUniqueId(uuid);
     }
 
-    private void impl$setTrackedUUID(final BlockPos pos, final UUID uuid, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
+    @Override
+    public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
         if (((LevelBridge) this.level).bridge$isFake()) {
             return;
         }
-        final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
-        final int index = uuid == null ? -1 : worldInfo.bridge$getIndexForUniqueId(uuid);
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            this.impl$computePlayerTracker(this.impl$trackedShortBlockPositions, blockPos, index, type, consumer);
-            return;
-        }
-        final int blockPos = Constants.Sponge.blockPosToInt(pos);
-        this.impl$computePlayerTracker(this.impl$trackedIntBlockPositions, blockPos, index, type, consumer);
-    }
-
-    @Override
-    public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
-       this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.NOTIFIER, (pt, idx) -> pt.notifierIndex = idx);
+        this.impl$trackedBlockPositions.setNotifier(pos.getX(), pos.getY(), pos.getZ(), this.impl$getIndexForUniqueId(uuid));
     }
 
     @Override
     public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
-        this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.CREATOR, (pt, idx) -> pt.creatorindex = idx);
+        if (((LevelBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        this.impl$trackedBlockPositions.setCreator(pos.getX(), pos.getY(), pos.getZ(), this.impl$getIndexForUniqueId(uuid), false);
     }
 
-    private Optional<UUID> impl$getValidatedUUID(final int key, final int ownerIndex) {
+    private Optional<UUID> impl$getValidatedUUID(final BlockPos pos, final int ownerIndex) {
+        if (ownerIndex == -1) {
+            return Optional.empty();
+        }
         final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
         final UUID uuid = worldInfo.bridge$getUniqueIdForIndex(ownerIndex).orElse(null);
         if (uuid != null) {
             // Verify id is valid and not invalid
-            if (SpongeConfigs.getCommon().get().world.invalidLookupUuids.contains(uuid)) {
-                if (key <= Short.MAX_VALUE) {
-                    this.impl$trackedShortBlockPositions.remove((short) key);
-                }
-                this.impl$trackedIntBlockPositions.remove(key);
+            if (SpongeConfigs.getCommon().get().world.isInvalidLookupUuid(uuid)) {
+                this.impl$trackedBlockPositions.remove(pos.getX(), pos.getY(), pos.getZ());
                 return Optional.empty();
             }
 
@@ -53,6 +53,7 @@
 import org.spongepowered.common.bridge.world.inventory.container.MenuBridge;
 import org.spongepowered.common.bridge.world.inventory.container.TrackedContainerBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
@@ -114,7 +115,8 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
         )
     )
     private void impl$handleUnviewedSlotSwap(final Inventory inv, final int index, final ItemStack newStack) {
-        if (!PhaseTracker.SERVER.onSidedThread() || inv.player.inventoryMenu == inv.player.containerMenu ||  Inventory.isHotbarSlot(index)) {
+        if (!PhaseTracker.SERVER.onSidedThread() || inv.player.inventoryMenu == inv.player.containerMenu ||  Inventory.isHotbarSlot(index)
+            || !AbstractContainerMenuMixin_Inventory.impl$shouldCaptureSlotTransactions() || ItemStack.matches(inv.getItem(index), newStack)) {
             inv.setItem(index, newStack);
         } else {
             final ItemStackSnapshot oldItem = ItemStackUtil.snapshotOf(inv.getItem(index));
@@ -139,7 +141,8 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
     )
     private ItemStack impl$handleUnviewedSlotSwap2(final ItemStack origin, final int splitOff, int $$0, int index, ClickType $$2, Player $$3) {
         Inventory inv = $$3.getInventory();
-        if (!PhaseTracker.SERVER.onSidedThread() || inv.player.inventoryMenu == inv.player.containerMenu || Inventory.isHotbarSlot(index)) {
+        if (!PhaseTracker.SERVER.onSidedThread() || inv.player.inventoryMenu == inv.player.containerMenu || Inventory.isHotbarSlot(index)
+            || !AbstractContainerMenuMixin_Inventory.impl$shouldCaptureSlotTransactions()) {
             return origin.split(splitOff);
         } else {
             final ItemStackSnapshot oldItem = ItemStackUtil.snapshotOf(origin);
@@ -341,7 +344,21 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
         }
     }
 
+    /**
+     * Slot transactions only ever end up in events that are a
+     * {@link org.spongepowered.api.event.item.inventory.ChangeInventoryEvent}
+     * or, for dropped items, a
+     * {@link org.spongepowered.api.event.entity.SpawnEntityEvent}. When neither
+     * has a listener the snapshots would be built and thrown away unseen.
+     */
+    private static boolean impl$shouldCaptureSlotTransactions() {
+        return ShouldFire.CHANGE_INVENTORY_EVENT || ShouldFire.SPAWN_ENTITY_EVENT;
+    }
+
     private void impl$capture(final Integer index, final ItemStack newStack, final ItemStack oldStack) {
+        if (!AbstractContainerMenuMixin_Inventory.impl$shouldCaptureSlotTransactions()) {
+            return;
+        }
         final PhaseContext<?> phaseContext = PhaseTracker.SERVER.getPhaseContext();
         if (PhaseTracker.SERVER.onSidedThread() &&
                  !(phaseContext.isRestoring() // do not capture when block restoring & initial sync on inventory open
@@ -50,8 +50,6 @@
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.util.InventoryUtil;
 
-import java.util.stream.IntStream;
-
 @Mixin(HopperBlockEntity.class)
 public abstract class HopperBlockEntityMixin_Inventory {
 
@@ -63,9 +61,8 @@ public abstract class HopperBlockEntityMixin_Inventory {
             at = @At(value = "INVOKE",
                      target = "Lnet/minecraft/world/level/block/entity/HopperBlockEntity;getSlots(Lnet/minecraft/world/Container;Lnet/minecraft/core/Direction;)[I"))
     private static int[] impl$throwTransferPreIfNotEmpty(final Container inventory, final Direction facing, final Level level, final Hopper hopper) {
-        final var slots = HopperBlockEntityAccessor.invoker$getSlots(inventory, facing);
-        final boolean isEmpty = IntStream.of(slots).allMatch(slot -> inventory.getItem(slot).isEmpty());
-        if (isEmpty || !ShouldFire.TRANSFER_INVENTORY_EVENT_PRE) {
+        final int[] slots = HopperBlockEntityAccessor.invoker$getSlots(inventory, facing);
+        if (!ShouldFire.TRANSFER_INVENTORY_EVENT_PRE || HopperBlockEntityMixin_Inventory.impl$isEmpty(inventory, slots)) {
             return slots;
         }
         if (InventoryEventFactory.callTransferPre(InventoryUtil.toInventory(inventory), InventoryUtil.toInventory(hopper)).isCancelled()) {
@@ -74,6 +71,15 @@ public abstract class HopperBlockEntityMixin_Inventory {
         return slots;
     }
 
+    private static boolean impl$isEmpty(final Container inventory, final int[] slots) {
+        for (final int slot : slots) {
+            if (!inventory.getItem(slot).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     // Capture Transactions
 
     @Redirect(method = "addItem(Lnet/minecraft/world/Container;Lnet/minecraft/world/Container;Lnet/minecraft/world/item/ItemStack;Lnet/minecraft/core/Direction;)Lnet/minecraft/world/item/ItemStack;",
@@ -82,10 +88,10 @@ public abstract class HopperBlockEntityMixin_Inventory {
     private static ItemStack impl$throwEventsForInsertion(final Container source, final Container destination, final ItemStack stack,
             final int index, final Direction direction) {
         // capture Transaction
-        if (!((source instanceof TrackedInventoryBridge || destination instanceof TrackedInventoryBridge) && destination instanceof InventoryAdapter)) {
+        if (!ShouldFire.TRANSFER_INVENTORY_EVENT_POST) {
             return HopperBlockEntityAccessor.invoker$tryMoveInItem(source, destination, stack, index, direction);
         }
-        if (!ShouldFire.TRANSFER_INVENTORY_EVENT_POST) {
+        if (!((source instanceof TrackedInventoryBridge || destination instanceof TrackedInventoryBridge) && destination instanceof InventoryAdapter)) {
             return HopperBlockEntityAccessor.invoker$tryMoveInItem(source, destination, stack, index, direction);
         }
         TrackedInventoryBridge captureIn = InventoryUtil.forCapture(source);
@@ -120,7 +126,7 @@ public abstract class HopperBlockEntityMixin_Inventory {
         }
 
         // Ignore all container transactions in affected inventories
-        if (hopper instanceof final ViewableInventoryBridge bridge) {
+        if (hopper instanceof final ViewableInventoryBridge bridge && bridge.viewableBridge$hasViewers()) {
             try (final PhaseContext<?> context = BlockPhase.State.RESTORING_BLOCKS.createPhaseContext(PhaseTracker.SERVER)) {
                 context.buildAndSwitch();
                 for (final ServerPlayer player : bridge.viewableBridge$getViewers()) {
@@ -128,7 +134,7 @@ public abstract class HopperBlockEntityMixin_Inventory {
                 }
             }
         }
-        if (iInventory instanceof final ViewableInventoryBridge bridge) {
+        if (iInventory instanceof final ViewableInventoryBridge bridge && bridge.viewableBridge$hasViewers()) {
             try (final PhaseContext<?> context = BlockPhase.State.RESTORING_BLOCKS.createPhaseContext(PhaseTracker.SERVER)) {
                 context.buildAndSwitch();
                 for (final ServerPlayer player : bridge.viewableBridge$getViewers()) {
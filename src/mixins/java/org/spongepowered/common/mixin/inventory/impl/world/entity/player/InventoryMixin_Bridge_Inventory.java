@@ -31,12 +31,14 @@
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.world.entity.player.PlayerInventoryBridge;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 
@@ -91,6 +93,13 @@ private void onConstructed(final Player playerIn, final CallbackInfo ci) {
         this.selected = itemIndex;
     }
 
+    @Inject(method = "setChanged", at = @At("RETURN"))
+    private void impl$queueDirtyCleanup(final CallbackInfo ci) {
+        if (this.player instanceof ServerPlayer && Sponge.isServerAvailable()) {
+            SpongeCommon.serverScheduler().markInventoryDirty((ServerPlayer) this.player);
+        }
+    }
+
     @Override
     public void bridge$cleanupDirty() {
         if (this.timesChanged != this.impl$lastTimesChanged) {
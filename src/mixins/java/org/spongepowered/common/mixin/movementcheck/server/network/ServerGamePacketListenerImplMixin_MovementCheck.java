@@ -33,6 +33,7 @@
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.WorldConfigSnapshot;
 
 @Mixin(ServerGamePacketListenerImpl.class)
 public abstract class ServerGamePacketListenerImplMixin_MovementCheck {
@@ -46,8 +47,9 @@ public abstract class ServerGamePacketListenerImplMixin_MovementCheck {
         )
     )
     private float movementCheck$onMovedTooQuickly(final float value) {
-        final double threshold = SpongeGameConfigs.getForWorld(this.player.level()).get().movementChecks.movedTooQuicklyThreshold;
-        if (threshold > 0.0D && SpongeGameConfigs.getForWorld(this.player.level()).get().movementChecks.player.movedTooQuickly) {
+        final WorldConfigSnapshot config = SpongeGameConfigs.getSnapshotForWorld(this.player.level());
+        final double threshold = config.movedTooQuicklyThreshold();
+        if (threshold > 0.0D && config.playerMovedTooQuickly()) {
             return (float) threshold;
         }
         return Float.NaN;
@@ -60,8 +62,9 @@ public abstract class ServerGamePacketListenerImplMixin_MovementCheck {
         )
     )
     private double movementCheck$onMovedWronglyCheck(final double value) {
-        final double threshold = SpongeGameConfigs.getForWorld(this.player.level()).get().movementChecks.movedWronglyThreshold;
-        if (threshold > 0.0D && SpongeGameConfigs.getForWorld(this.player.level()).get().movementChecks.movedWrongly) {
+        final WorldConfigSnapshot config = SpongeGameConfigs.getSnapshotForWorld(this.player.level());
+        final double threshold = config.movedWronglyThreshold();
+        if (threshold > 0.0D && config.movedWrongly()) {
             return threshold;
         }
         return Double.NaN;
@@ -74,8 +77,9 @@ public abstract class ServerGamePacketListenerImplMixin_MovementCheck {
         )
     )
     private double movementCheck$onVehicleMovedWronglyCheck(final double value) {
-        final double threshold = SpongeGameConfigs.getForWorld(this.player.level()).get().movementChecks.vehicleMovedWronglyThreshold;
-        if (threshold > 0.0D && SpongeGameConfigs.getForWorld(this.player.level()).get().movementChecks.movedWrongly) {
+        final WorldConfigSnapshot config = SpongeGameConfigs.getSnapshotForWorld(this.player.level());
+        final double threshold = config.vehicleMovedWronglyThreshold();
+        if (threshold > 0.0D && config.movedWrongly()) {
             return threshold;
         }
         return Double.NaN;
@@ -88,8 +92,9 @@ public abstract class ServerGamePacketListenerImplMixin_MovementCheck {
         )
     )
     private double movementCheck$onVehicleMovedTooQuicklyCheck(final double value) {
-        final double threshold = SpongeGameConfigs.getForWorld(this.player.level()).get().movementChecks.vehicleMovedTooQuicklyThreshold;
-        if (threshold > 0.0D && SpongeGameConfigs.getForWorld(this.player.level()).get().movementChecks.player.vehicleMovedTooQuickly) {
+        final WorldConfigSnapshot config = SpongeGameConfigs.getSnapshotForWorld(this.player.level());
+        final double threshold = config.vehicleMovedTooQuicklyThreshold();
+        if (threshold > 0.0D && config.playerVehicleMovedTooQuickly()) {
             return threshold;
         }
         return Double.NaN;
@@ -40,12 +40,8 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
-import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.util.Constants;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.BiConsumer;
+import org.spongepowered.common.world.level.chunk.TrackedBlockPositions;
 
 @Mixin(ChunkSerializer.class)
 public abstract class ChunkSerializerMixin_Tracker {
@@ -55,29 +51,12 @@ public abstract class ChunkSerializerMixin_Tracker {
         if (!(param1 instanceof LevelChunk)) {
             return;
         }
-        final LevelChunkBridge chunk = (LevelChunkBridge) param1;
-        if (!chunk.bridge$getTrackedShortPlayerPositions().isEmpty() || !chunk.bridge$getTrackedIntPlayerPositions().isEmpty()) {
+        final TrackedBlockPositions positions = ((LevelChunkBridge) param1).bridge$getTrackedBlockPositions();
+        if (!positions.isEmpty()) {
             final CompoundTag level = cir.getReturnValue();
             final CompoundTag trackedNbt = new CompoundTag();
-            final ListTag positions = new ListTag();
-            trackedNbt.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, positions);
+            trackedNbt.putIntArray(Constants.Sponge.SPONGE_TRACKED_BLOCK_POSITIONS, positions.write());
             level.put(Constants.Sponge.Data.V2.SPONGE_DATA, trackedNbt);
-
-            ChunkSerializerMixin_Tracker.impl$writeMap(positions, chunk.bridge$getTrackedShortPlayerPositions(), (nbt, pos) -> nbt.putShort("pos", pos));
-            ChunkSerializerMixin_Tracker.impl$writeMap(positions, chunk.bridge$getTrackedIntPlayerPositions(), (nbt, pos) -> nbt.putInt("ipos", pos));
-        }
-    }
-
-    private static <T> void impl$writeMap(final ListTag positions, final Map<T, PlayerTracker> map, final BiConsumer<CompoundTag, T> consumer) {
-        for (final Map.Entry<T, PlayerTracker> mapEntry : map.entrySet()) {
-            final T pos = mapEntry.getKey();
-            final int ownerUniqueIdIndex = mapEntry.getValue().creatorindex;
-            final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-            final CompoundTag valueNbt = new CompoundTag();
-            valueNbt.putInt("owner", ownerUniqueIdIndex);
-            valueNbt.putInt("notifier", notifierUniqueIdIndex);
-            consumer.accept(valueNbt, pos);
-            positions.add(valueNbt);
         }
     }
 
@@ -91,30 +70,26 @@ public abstract class ChunkSerializerMixin_Tracker {
         if (spongeData.isEmpty()) {
             return;
         }
-        final Map<Integer, PlayerTracker> trackedIntPlayerPositions = new HashMap<>();
-        final Map<Short, PlayerTracker> trackedShortPlayerPositions = new HashMap<>();
+        final TrackedBlockPositions positions = ((LevelChunkBridge) chunkAccess).bridge$getTrackedBlockPositions();
+        if (spongeData.contains(Constants.Sponge.SPONGE_TRACKED_BLOCK_POSITIONS, Tag.TAG_INT_ARRAY)) {
+            positions.read(spongeData.getIntArray(Constants.Sponge.SPONGE_TRACKED_BLOCK_POSITIONS));
+            return;
+        }
 
-        final ListTag list = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, 10);
-        final LevelChunkBridge chunk = (LevelChunkBridge) chunkAccess;
+        // Chunks saved before the tracked positions were packed per section
+        final ListTag list = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Tag.TAG_COMPOUND);
         for (final Tag tag : list) {
-            final PlayerTracker tracker = new PlayerTracker();
             final CompoundTag data = (CompoundTag) tag;
-            final boolean isShortPos = data.contains("pos");
-            if (data.contains("owner")) {
-                tracker.creatorindex = data.getInt("owner");
-            }
-            if (data.contains("notifier")) {
-                tracker.notifierIndex = data.getInt("notifier");
-            }
-            if (tracker.notifierIndex != -1 || tracker.creatorindex != -1) {
-                if (isShortPos) {
-                    trackedShortPlayerPositions.put(data.getShort("pos"), tracker);
-                } else {
-                    trackedIntPlayerPositions.put(data.getInt("ipos"), tracker);
-                }
+            final int creatorIndex = data.contains("owner") ? data.getInt("owner") : -1;
+            final int notifierIndex = data.contains("notifier") ? data.getInt("notifier") : -1;
+            final long packed = TrackedBlockPositions.pack(creatorIndex, notifierIndex);
+            if (data.contains("pos")) {
+                final short pos = data.getShort("pos");
+                positions.put(pos & 0xF, (pos >> 4) & 0xFF, (pos >> 12) & 0xF, packed);
+            } else {
+                final int pos = data.getInt("ipos");
+                positions.put(pos & 0xF, ((pos >> 4) & Constants.Chunk.Y_INT_MASK) << 8 >> 8, (pos >>> 28) & 0xF, packed);
             }
         }
-        chunk.bridge$setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-        chunk.bridge$setTrackedShortPlayerPositions(trackedShortPlayerPositions);
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.config.inheritable.MovementEventsCategory;
+
+final class MoveEntityEventFilterTest {
+
+    private static MoveEntityEventFilter filter(final MovementEventsCategory category) {
+        return MoveEntityEventFilter.compile(null, category);
+    }
+
+    @Test
+    void testGridPoints() {
+        final MoveEntityEventFilter filter = MoveEntityEventFilterTest.filter(new MovementEventsCategory());
+
+        Assertions.assertFalse(filter.testMovement(0.0, 64.0, 0.0, 0.1, 64.0, 0.0));
+        Assertions.assertTrue(filter.testMovement(0.0, 64.0, 0.0, 0.125, 64.0, 0.0));
+        Assertions.assertTrue(filter.testMovement(0.0, 64.0, 0.0, 0.0, 64.0, 0.2));
+        Assertions.assertFalse(filter.testMovement(1.0, 64.0, 1.0, 1.0, 64.0, 1.0));
+    }
+
+    @Test
+    void testGridPointsNegative() {
+        final MoveEntityEventFilter filter = MoveEntityEventFilterTest.filter(new MovementEventsCategory());
+
+        // -8.0 and -7.6 floor to the same grid point
+        Assertions.assertFalse(filter.testMovement(-1.0, 64.0, 0.0, -0.95, 64.0, 0.0));
+        // -0.4 floors to -1 while 0.4 floors to 0, truncation would consider these equal
+        Assertions.assertTrue(filter.testMovement(-0.05, 64.0, 0.0, 0.05, 64.0, 0.0));
+        Assertions.assertTrue(filter.testMovement(0.0, 64.0, -0.05, 0.0, 64.0, -0.15));
+        Assertions.assertTrue(filter.testMovement(-1.0, 64.0, 0.0, -1.2, 64.0, 0.0));
+        Assertions.assertFalse(filter.testMovement(0.0, -10.01, 0.0, 0.0, -10.1, 0.0));
+    }
+
+    @Test
+    void testBlockBoundaryOnly() {
+        final MovementEventsCategory category = new MovementEventsCategory();
+        category.blockBoundaryOnly = true;
+        final MoveEntityEventFilter filter = MoveEntityEventFilterTest.filter(category);
+
+        Assertions.assertFalse(filter.testMovement(0.2, 64.0, 0.2, 0.9, 64.0, 0.9));
+        Assertions.assertTrue(filter.testMovement(0.9, 64.0, 0.2, 1.1, 64.0, 0.2));
+        Assertions.assertFalse(filter.testMovement(-0.5, 64.0, 0.0, -0.1, 64.0, 0.0));
+        Assertions.assertTrue(filter.testMovement(-0.1, 64.0, 0.0, 0.1, 64.0, 0.0));
+        Assertions.assertTrue(filter.testMovement(0.0, 64.0, -0.9, 0.0, 64.0, -1.1));
+    }
+
+    @Test
+    void testMinimumDistance() {
+        final MovementEventsCategory category = new MovementEventsCategory();
+        category.minimumDistance = 1.0;
+        final MoveEntityEventFilter filter = MoveEntityEventFilterTest.filter(category);
+
+        Assertions.assertFalse(filter.testMovement(0.0, 64.0, 0.0, 0.5, 64.0, 0.5));
+        Assertions.assertTrue(filter.testMovement(0.0, 64.0, 0.0, 1.0, 64.0, 0.5));
+        Assertions.assertTrue(filter.testMovement(-0.5, 64.0, 0.0, -1.5, 64.0, 0.0));
+    }
+
+    @Test
+    void testRegions() {
+        final MovementEventsCategory category = new MovementEventsCategory();
+        final MovementEventsCategory.RegionSubCategory region = new MovementEventsCategory.RegionSubCategory();
+        region.minX = 0;
+        region.minY = 0;
+        region.minZ = 0;
+        region.maxX = -10;
+        region.maxY = 100;
+        region.maxZ = -10;
+        category.regions.add(region);
+        final MoveEntityEventFilter filter = MoveEntityEventFilterTest.filter(category);
+
+        Assertions.assertTrue(filter.testMovement(-5.0, 64.0, -5.0, -5.5, 64.0, -5.0));
+        // Moving into the region
+        Assertions.assertTrue(filter.testMovement(1.5, 64.0, -5.0, -0.5, 64.0, -5.0));
+        // -10.5 floors to block -11, outside of the region
+        Assertions.assertFalse(filter.testMovement(-10.5, 64.0, -5.0, -11.0, 64.0, -5.0));
+        Assertions.assertFalse(filter.testMovement(5.0, 64.0, 5.0, 5.5, 64.0, 5.0));
+    }
+}
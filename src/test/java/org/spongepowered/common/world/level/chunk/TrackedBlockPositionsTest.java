@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+final class TrackedBlockPositionsTest {
+
+    // -64 to 319, like the vanilla overworld
+    private static final int MIN_SECTION = -4;
+    private static final int SECTION_COUNT = 24;
+
+    @Test
+    void testCreatorAndNotifier() {
+        final TrackedBlockPositions positions = new TrackedBlockPositions(TrackedBlockPositionsTest.MIN_SECTION, TrackedBlockPositionsTest.SECTION_COUNT);
+        Assertions.assertEquals(TrackedBlockPositions.NONE, positions.get(1, -60, 2));
+
+        positions.setCreator(1, -60, 2, 5, true);
+        Assertions.assertEquals(5, TrackedBlockPositions.creatorIndex(positions.get(1, -60, 2)));
+        Assertions.assertEquals(-1, TrackedBlockPositions.notifierIndex(positions.get(1, -60, 2)));
+
+        positions.setNotifier(1, -60, 2, 7);
+        Assertions.assertEquals(5, TrackedBlockPositions.creatorIndex(positions.get(1, -60, 2)));
+        Assertions.assertEquals(7, TrackedBlockPositions.notifierIndex(positions.get(1, -60, 2)));
+
+        positions.setCreator(1, -60, 2, 3, false);
+        Assertions.assertEquals(TrackedBlockPositions.pack(3, 7), positions.get(1, -60, 2));
+
+        positions.setCreator(1, -60, 2, 9, true);
+        Assertions.assertEquals(TrackedBlockPositions.pack(9, 9), positions.get(1, -60, 2));
+
+        positions.setCreator(1, -60, 2, -1, true);
+        Assertions.assertTrue(positions.isEmpty());
+    }
+
+    @Test
+    void testOutOfBoundsIsIgnored() {
+        final TrackedBlockPositions positions = new TrackedBlockPositions(TrackedBlockPositionsTest.MIN_SECTION, TrackedBlockPositionsTest.SECTION_COUNT);
+        positions.setCreator(0, 320, 0, 1, false);
+        positions.setCreator(0, -65, 0, 1, false);
+        Assertions.assertTrue(positions.isEmpty());
+        Assertions.assertEquals(TrackedBlockPositions.NONE, positions.get(0, 320, 0));
+    }
+
+    @Test
+    void testMatchesMap() {
+        final TrackedBlockPositions positions = new TrackedBlockPositions(TrackedBlockPositionsTest.MIN_SECTION, TrackedBlockPositionsTest.SECTION_COUNT);
+        final Map<Integer, Long> expected = new HashMap<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            final int x = random.nextInt(16);
+            final int y = random.nextInt(384) - 64;
+            final int z = random.nextInt(16);
+            final int key = (y << 8) | (z << 4) | x;
+            if (random.nextInt(4) == 0) {
+                positions.remove(x, y, z);
+                expected.remove(key);
+            } else {
+                final long packed = TrackedBlockPositions.pack(random.nextInt(100), random.nextInt(100));
+                positions.put(x, y, z, packed);
+                expected.put(key, packed);
+            }
+        }
+        Assertions.assertEquals(expected.size(), positions.size());
+        for (int y = -64; y < 320; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    final int key = (y << 8) | (z << 4) | x;
+                    Assertions.assertEquals((long) expected.getOrDefault(key, TrackedBlockPositions.NONE), positions.get(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSerialization() {
+        final TrackedBlockPositions positions = new TrackedBlockPositions(TrackedBlockPositionsTest.MIN_SECTION, TrackedBlockPositionsTest.SECTION_COUNT);
+        positions.put(0, -64, 0, TrackedBlockPositions.pack(1, 2));
+        positions.put(15, -1, 15, TrackedBlockPositions.pack(3, -1));
+        positions.put(7, 0, 8, TrackedBlockPositions.pack(-1, 4));
+        positions.put(3, 319, 12, TrackedBlockPositions.pack(5, 6));
+
+        final TrackedBlockPositions read = new TrackedBlockPositions(TrackedBlockPositionsTest.MIN_SECTION, TrackedBlockPositionsTest.SECTION_COUNT);
+        read.read(positions.write());
+        Assertions.assertEquals(4, read.size());
+        Assertions.assertEquals(TrackedBlockPositions.pack(1, 2), read.get(0, -64, 0));
+        Assertions.assertEquals(TrackedBlockPositions.pack(3, -1), read.get(15, -1, 15));
+        Assertions.assertEquals(TrackedBlockPositions.pack(-1, 4), read.get(7, 0, 8));
+        Assertions.assertEquals(TrackedBlockPositions.pack(5, 6), read.get(3, 319, 12));
+
+        read.clear();
+        Assertions.assertTrue(read.isEmpty());
+    }
+}
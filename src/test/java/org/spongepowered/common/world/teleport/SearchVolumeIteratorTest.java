@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+final class SearchVolumeIteratorTest {
+
+    @Test
+    void testMatchesSortedVolume() {
+        final Vector3i centre = new Vector3i(10, 64, -5);
+        SearchVolumeIteratorTest.assertOrder(centre, 7, 13, 61, 67, -8, -2);
+    }
+
+    @Test
+    void testMatchesSortedVolumeClampedToBounds() {
+        // The world border or height can cut the volume off on one side of the centre
+        final Vector3i centre = new Vector3i(0, 2, 100);
+        SearchVolumeIteratorTest.assertOrder(centre, -4, 1, 0, 6, 98, 103);
+        SearchVolumeIteratorTest.assertOrder(centre, 2, 5, 0, 0, 90, 95);
+    }
+
+    @Test
+    void testSinglePosition() {
+        final Vector3i centre = new Vector3i(3, 4, 5);
+        SearchVolumeIteratorTest.assertOrder(centre, 3, 3, 4, 4, 5, 5);
+    }
+
+    private static void assertOrder(final Vector3i centre, final int minX, final int maxX, final int minY, final int maxY, final int minZ,
+            final int maxZ) {
+        final List<Vector3i> expected = new ArrayList<>();
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    expected.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        Comparator<Vector3i> c = Comparator.comparingInt(centre::distanceSquared);
+        c = c.thenComparing(v -> -Math.abs(centre.y() - v.y())).thenComparing(v -> -v.y());
+        expected.sort(c);
+
+        final List<Vector3i> actual = new ArrayList<>();
+        new SearchVolumeIterator(centre, minX, maxX, minY, maxY, minZ, maxZ).forEachRemaining(actual::add);
+        Assertions.assertEquals(expected, actual);
+    }
+}